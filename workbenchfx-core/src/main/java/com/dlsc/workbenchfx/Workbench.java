@@ -2,40 +2,61 @@ package com.dlsc.workbenchfx;
 
 import com.dlsc.workbenchfx.model.WorkbenchDialog;
 import com.dlsc.workbenchfx.model.WorkbenchDialog.Type;
+import com.dlsc.workbenchfx.model.WorkbenchDialog.WorkbenchDialogBuilder;
 import com.dlsc.workbenchfx.model.WorkbenchModule;
+import com.dlsc.workbenchfx.model.WorkbenchNotification;
 import com.dlsc.workbenchfx.model.WorkbenchOverlay;
+import com.dlsc.workbenchfx.util.Animations;
+import com.dlsc.workbenchfx.util.DialogScheduler;
+import com.dlsc.workbenchfx.util.ExceptionAggregator;
+import com.dlsc.workbenchfx.util.IconCache;
+import com.dlsc.workbenchfx.util.NotificationScheduler;
+import com.dlsc.workbenchfx.util.RenderProfile;
+import com.dlsc.workbenchfx.util.WorkbenchUtils;
 import com.dlsc.workbenchfx.view.WorkbenchPresenter;
 import com.dlsc.workbenchfx.view.controls.GlassPane;
 import com.dlsc.workbenchfx.view.controls.NavigationDrawer;
 import com.dlsc.workbenchfx.view.controls.ToolbarItem;
 import com.dlsc.workbenchfx.view.controls.dialog.DialogControl;
+import com.dlsc.workbenchfx.view.controls.dialog.DialogControlPool;
 import com.dlsc.workbenchfx.view.controls.module.Page;
 import com.dlsc.workbenchfx.view.controls.module.Tab;
 import com.dlsc.workbenchfx.view.controls.module.Tile;
 import com.google.common.collect.Range;
+import java.lang.ref.SoftReference;
 import java.util.Arrays;
+import java.util.EnumMap;
 import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Objects;
+import java.util.WeakHashMap;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.Consumer;
+import java.util.function.Supplier;
+import javafx.animation.Animation.Status;
+import javafx.animation.PauseTransition;
 import javafx.animation.TranslateTransition;
 import javafx.application.Platform;
 import javafx.beans.binding.Bindings;
 import javafx.beans.binding.DoubleBinding;
 import javafx.beans.binding.DoubleExpression;
+import javafx.beans.property.BooleanProperty;
 import javafx.beans.property.IntegerProperty;
 import javafx.beans.property.ListProperty;
 import javafx.beans.property.ObjectProperty;
 import javafx.beans.property.ReadOnlyDoubleProperty;
 import javafx.beans.property.ReadOnlyIntegerProperty;
 import javafx.beans.property.ReadOnlyObjectProperty;
+import javafx.beans.property.SimpleBooleanProperty;
 import javafx.beans.property.SimpleIntegerProperty;
 import javafx.beans.property.SimpleListProperty;
 import javafx.beans.property.SimpleObjectProperty;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import javafx.collections.ObservableMap;
+import javafx.css.PseudoClass;
 import javafx.event.Event;
 import javafx.event.EventHandler;
 import javafx.geometry.Pos;
@@ -68,20 +89,26 @@ public final class Workbench extends Control {
 
   // Constants
   private static final int MAX_PERCENT = 100;
-
-  /**
-   * Duration of animations according to material design guidelines.
-   * @see <a href="https://material.io/design/motion/speed.html#duration">
-   * Speed - Material Design</a>
-   */
-  private static final int ANIMATION_DURATION_DRAWER_OPEN = 250;
-  private static final int ANIMATION_DURATION_DRAWER_CLOSE = 200;
+  private static final PseudoClass REDUCED_EFFECTS = PseudoClass.getPseudoClass("reduced-effects");
 
   // Default values
   private static final Callback<Workbench, Tab> DEFAULT_TAB_FACTORY = Tab::new;
   private static final Callback<Workbench, Tile> DEFAULT_TILE_FACTORY = Tile::new;
   private static final Callback<Workbench, Page> DEFAULT_PAGE_FACTORY = Page::new;
   private static final int DEFAULT_MODULES_PER_PAGE = 6;
+  private static final boolean DEFAULT_RASTERIZE_ICONS = false;
+  private static final boolean DEFAULT_ADAPTIVE_MODULES_PER_PAGE = false;
+  private static final boolean DEFAULT_VIRTUALIZED_TABS = false;
+  private static final boolean DEFAULT_TAB_PREVIEWS = false;
+  private static final int DEFAULT_MAX_HIDDEN_OVERLAYS = 32;
+  private static final Duration DEFAULT_HIDDEN_OVERLAY_TIMEOUT = Duration.INDEFINITE;
+  private static final int DEFAULT_MAX_DIALOGS_SHOWN = Integer.MAX_VALUE;
+  private static final Duration DEFAULT_DIALOG_INTERVAL = Duration.ZERO;
+  private static final boolean DEFAULT_DIALOG_COALESCING = false;
+  private static final boolean DEFAULT_EXCEPTION_AGGREGATION = false;
+  private static final int DEFAULT_MAX_NOTIFICATIONS_SHOWN = 3;
+  private static final Duration DEFAULT_NOTIFICATION_DURATION = Duration.seconds(3);
+  private static final RenderProfile DEFAULT_RENDER_PROFILE = RenderProfile.FULL;
   private static final NavigationDrawer DEFAULT_NAVIGATION_DRAWER = new NavigationDrawer();
 
   // Custom Controls
@@ -107,6 +134,41 @@ public final class Workbench extends Control {
       FXCollections.observableArrayList();
   private final ObservableList<Region> blockingOverlaysShown =
       FXCollections.observableArrayList();
+  private final ObservableList<WorkbenchNotification> notificationsShown =
+      FXCollections.observableArrayList();
+
+  /**
+   * Contains all overlays of {@link #nonBlockingOverlaysShown} and {@link #blockingOverlaysShown}
+   * and whether they are blocking, to check whether an overlay is being shown without having to
+   * search through the lists.
+   */
+  private final Map<Region, Boolean> overlaysShown = new HashMap<>();
+
+  /**
+   * Overlays which are hidden but still loaded, with the time in nanoseconds they were hidden at,
+   * ordered from the least to the most recently hidden overlay.
+   */
+  private final Map<Region, Long> hiddenOverlays = new LinkedHashMap<>();
+  private final PauseTransition hiddenOverlaysTimer = new PauseTransition();
+
+  /**
+   * Drawers which have been built by the suppliers passed to {@link #showDrawer(Supplier, Side)},
+   * per side they have been shown on. Drawers are only softly referenced, so once they have been
+   * removed from the scene graph, they can be released when memory is running low.
+   */
+  private final Map<Supplier<? extends Region>, Map<Side, SoftReference<Region>>> lazyDrawers =
+      new WeakHashMap<>();
+
+  // shared by all overlays, is always stacked below the top-most overlay being shown
+  private final GlassPane glassPane = new GlassPane();
+
+  // reuses the controls of hidden dialogs which were shown using the show...Dialog methods
+  private final DialogControlPool dialogControlPool = new DialogControlPool();
+  private final DialogScheduler dialogScheduler =
+      new DialogScheduler(this, this::displayDialog, this::discardDialog);
+  private final ExceptionAggregator exceptionAggregator = new ExceptionAggregator();
+  private final NotificationScheduler notificationScheduler =
+      new NotificationScheduler(this, notificationsShown);
 
   private final ObjectProperty<Region> drawerShown =
       new SimpleObjectProperty<>(this, "drawerShown");
@@ -164,6 +226,32 @@ public final class Workbench extends Control {
   private final IntegerProperty modulesPerPage =
       new SimpleIntegerProperty(this, "modulesPerPage", DEFAULT_MODULES_PER_PAGE);
   private final IntegerProperty amountOfPages = new SimpleIntegerProperty(this, "amountOfPages");
+  private final BooleanProperty rasterizeIcons =
+      new SimpleBooleanProperty(this, "rasterizeIcons", DEFAULT_RASTERIZE_ICONS);
+  private final BooleanProperty adaptiveModulesPerPage = new SimpleBooleanProperty(
+      this, "adaptiveModulesPerPage", DEFAULT_ADAPTIVE_MODULES_PER_PAGE);
+  private final BooleanProperty virtualizedTabs =
+      new SimpleBooleanProperty(this, "virtualizedTabs", DEFAULT_VIRTUALIZED_TABS);
+  private final BooleanProperty tabPreviews =
+      new SimpleBooleanProperty(this, "tabPreviews", DEFAULT_TAB_PREVIEWS);
+  private final IntegerProperty maxHiddenOverlays =
+      new SimpleIntegerProperty(this, "maxHiddenOverlays", DEFAULT_MAX_HIDDEN_OVERLAYS);
+  private final ObjectProperty<Duration> hiddenOverlayTimeout = new SimpleObjectProperty<>(
+      this, "hiddenOverlayTimeout", DEFAULT_HIDDEN_OVERLAY_TIMEOUT);
+  private final IntegerProperty maxDialogsShown =
+      new SimpleIntegerProperty(this, "maxDialogsShown", DEFAULT_MAX_DIALOGS_SHOWN);
+  private final ObjectProperty<Duration> dialogInterval =
+      new SimpleObjectProperty<>(this, "dialogInterval", DEFAULT_DIALOG_INTERVAL);
+  private final BooleanProperty dialogCoalescing =
+      new SimpleBooleanProperty(this, "dialogCoalescing", DEFAULT_DIALOG_COALESCING);
+  private final BooleanProperty exceptionAggregation = new SimpleBooleanProperty(
+      this, "exceptionAggregation", DEFAULT_EXCEPTION_AGGREGATION);
+  private final IntegerProperty maxNotificationsShown = new SimpleIntegerProperty(
+      this, "maxNotificationsShown", DEFAULT_MAX_NOTIFICATIONS_SHOWN);
+  private final ObjectProperty<Duration> notificationDuration = new SimpleObjectProperty<>(
+      this, "notificationDuration", DEFAULT_NOTIFICATION_DURATION);
+  private final ObjectProperty<RenderProfile> renderProfile =
+      new SimpleObjectProperty<>(this, "renderProfile", DEFAULT_RENDER_PROFILE);
 
   // Builder
   /**
@@ -185,6 +273,32 @@ public final class Workbench extends Control {
     // Optional parameters - initialized to default values
     private int modulesPerPage = DEFAULT_MODULES_PER_PAGE;
 
+    private boolean adaptiveModulesPerPage = DEFAULT_ADAPTIVE_MODULES_PER_PAGE;
+
+    private boolean rasterizeIcons = DEFAULT_RASTERIZE_ICONS;
+
+    private boolean virtualizedTabs = DEFAULT_VIRTUALIZED_TABS;
+
+    private boolean tabPreviews = DEFAULT_TAB_PREVIEWS;
+
+    private int maxHiddenOverlays = DEFAULT_MAX_HIDDEN_OVERLAYS;
+
+    private Duration hiddenOverlayTimeout = DEFAULT_HIDDEN_OVERLAY_TIMEOUT;
+
+    private int maxDialogsShown = DEFAULT_MAX_DIALOGS_SHOWN;
+
+    private Duration dialogInterval = DEFAULT_DIALOG_INTERVAL;
+
+    private boolean dialogCoalescing = DEFAULT_DIALOG_COALESCING;
+
+    private boolean exceptionAggregation = DEFAULT_EXCEPTION_AGGREGATION;
+
+    private int maxNotificationsShown = DEFAULT_MAX_NOTIFICATIONS_SHOWN;
+
+    private Duration notificationDuration = DEFAULT_NOTIFICATION_DURATION;
+
+    private RenderProfile renderProfile = DEFAULT_RENDER_PROFILE;
+
     private Callback<Workbench, Tab> tabFactory = DEFAULT_TAB_FACTORY;
 
     private Callback<Workbench, Tile> tileFactory = DEFAULT_TILE_FACTORY;
@@ -213,6 +327,192 @@ public final class Workbench extends Control {
       return this;
     }
 
+    /**
+     * Defines whether the amount of modules per page on the home screen should be calculated from
+     * the available space and the size of the tiles, instead of using a fixed amount.
+     *
+     * @param adaptiveModulesPerPage true if the modules per page should adapt to the available
+     *                               space
+     * @return builder for chaining
+     * @implNote The amount is only recalculated once the size of the home screen has stopped
+     *           changing for a moment, so resizing the window doesn't rebuild the pages on every
+     *           intermediate size. The amount defined with {@link #modulesPerPage(int)} is used
+     *           until the tiles have been laid out for the first time.
+     */
+    public final WorkbenchBuilder adaptiveModulesPerPage(boolean adaptiveModulesPerPage) {
+      this.adaptiveModulesPerPage = adaptiveModulesPerPage;
+      return this;
+    }
+
+    /**
+     * Defines whether the glyph icons of the modules should be displayed in the {@link Tab}s and
+     * {@link Tile}s as shared rasterized images, instead of creating a new glyph node every time.
+     *
+     * @param rasterizeIcons true if the icons should be rasterized
+     * @return builder for chaining
+     * @implNote Rasterized icons are rendered only once per icon, size and fill into the shared
+     *           atlas pages of the {@link IconCache}, which replaces the text nodes in the scene
+     *           graph by a few image resources when there are many modules.
+     */
+    public final WorkbenchBuilder rasterizeIcons(boolean rasterizeIcons) {
+      this.rasterizeIcons = rasterizeIcons;
+      return this;
+    }
+
+    /**
+     * Defines whether only the {@link Tab}s which are visible in the toolbar should be created,
+     * instead of a {@link Tab} for every open module.
+     *
+     * @param virtualizedTabs true if the tabs should be virtualized
+     * @return builder for chaining
+     * @implNote Use this when there are many open modules at the same time. The amount of
+     *           {@link Tab}s is then bounded by the width of the toolbar and {@link Tab}s which
+     *           are scrolled out of view get reused for the modules being scrolled into view.
+     */
+    public final WorkbenchBuilder virtualizedTabs(boolean virtualizedTabs) {
+      this.virtualizedTabs = virtualizedTabs;
+      return this;
+    }
+
+    /**
+     * Defines whether hovering over a {@link Tab} should show a preview of its module, as it was
+     * last shown before another module was opened.
+     *
+     * @param tabPreviews true if previews should be shown when hovering over a {@link Tab}
+     * @return builder for chaining
+     * @implNote A snapshot of the view of a module is taken whenever another module is opened,
+     *           the amount of snapshots being kept is bounded.
+     */
+    public final WorkbenchBuilder tabPreviews(boolean tabPreviews) {
+      this.tabPreviews = tabPreviews;
+      return this;
+    }
+
+    /**
+     * Defines how many overlays may stay loaded in the scene graph while they are hidden. When
+     * more overlays are hidden, the least recently hidden overlays get removed.
+     *
+     * @param maxHiddenOverlays amount of hidden overlays to be kept loaded
+     * @return builder for chaining
+     * @implNote Overlays which have been removed are loaded again when they are shown the next
+     *           time, which is slower than showing an overlay which is still loaded.
+     */
+    public final WorkbenchBuilder maxHiddenOverlays(int maxHiddenOverlays) {
+      this.maxHiddenOverlays = maxHiddenOverlays;
+      return this;
+    }
+
+    /**
+     * Defines how long overlays stay loaded in the scene graph after being hidden, before they
+     * get removed. By default, hidden overlays are only removed when there are more than
+     * {@link #maxHiddenOverlays(int)} of them.
+     *
+     * @param hiddenOverlayTimeout after which hidden overlays get removed, or
+     *                             {@link Duration#INDEFINITE} to keep them
+     * @return builder for chaining
+     */
+    public final WorkbenchBuilder hiddenOverlayTimeout(Duration hiddenOverlayTimeout) {
+      this.hiddenOverlayTimeout = hiddenOverlayTimeout;
+      return this;
+    }
+
+    /**
+     * Defines how many dialogs may be shown at the same time. Any further dialogs wait until one
+     * of the dialogs being shown has been hidden.
+     *
+     * @param maxDialogsShown amount of dialogs which may be shown at the same time
+     * @return builder for chaining
+     */
+    public final WorkbenchBuilder maxDialogsShown(int maxDialogsShown) {
+      this.maxDialogsShown = maxDialogsShown;
+      return this;
+    }
+
+    /**
+     * Defines how much time needs to pass at least between showing two dialogs. Dialogs which are
+     * requested earlier wait until the interval has passed.
+     *
+     * @param dialogInterval minimum time between showing two dialogs
+     * @return builder for chaining
+     */
+    public final WorkbenchBuilder dialogInterval(Duration dialogInterval) {
+      this.dialogInterval = dialogInterval;
+      return this;
+    }
+
+    /**
+     * Defines whether dialogs which are identical to a dialog which is being shown or waiting to
+     * be shown should be merged into it, instead of being shown separately.
+     *
+     * @param dialogCoalescing true if identical dialogs should be merged
+     * @return builder for chaining
+     * @implNote Dialogs are identical if their type, title, message, details, blocking state and
+     *           buttons are equal. The dialog they are merged into counts their occurrences in
+     *           {@link WorkbenchDialog#occurrencesProperty()} and passes its result on to them.
+     */
+    public final WorkbenchBuilder dialogCoalescing(boolean dialogCoalescing) {
+      this.dialogCoalescing = dialogCoalescing;
+      return this;
+    }
+
+    /**
+     * Defines whether exceptions which are shown using {@link Workbench#showErrorDialog(String,
+     * String, Exception, Consumer)} should be aggregated by their fingerprint. As long as an error
+     * dialog is being shown for an exception, further occurrences of exceptions with the same
+     * fingerprint only increase the {@link WorkbenchDialog#occurrencesProperty()} of this dialog.
+     *
+     * @param exceptionAggregation true if exceptions should be aggregated
+     * @return builder for chaining
+     * @implNote Exceptions have the same fingerprint if they are of the same type and their top
+     *           stack frames are equal, see {@link ExceptionAggregator#fingerprint(Throwable)}.
+     *           The recorded occurrences are available using
+     *           {@link Workbench#getExceptionAggregator()}.
+     */
+    public final WorkbenchBuilder exceptionAggregation(boolean exceptionAggregation) {
+      this.exceptionAggregation = exceptionAggregation;
+      return this;
+    }
+
+    /**
+     * Defines how many notifications may be shown at the same time. Further notifications wait
+     * until one of the notifications being shown has been hidden.
+     *
+     * @param maxNotificationsShown maximum amount of notifications being shown at the same time
+     * @return builder for chaining
+     */
+    public final WorkbenchBuilder maxNotificationsShown(int maxNotificationsShown) {
+      this.maxNotificationsShown = maxNotificationsShown;
+      return this;
+    }
+
+    /**
+     * Defines how long a notification is being shown, before it is hidden automatically.
+     *
+     * @param notificationDuration how long a notification is being shown or
+     *                             {@link Duration#INDEFINITE} to never hide it automatically
+     * @return builder for chaining
+     */
+    public final WorkbenchBuilder notificationDuration(Duration notificationDuration) {
+      this.notificationDuration = notificationDuration;
+      return this;
+    }
+
+    /**
+     * Defines how much rendering effort is spent on animations and effects, for example to keep
+     * the workbench responsive over remote desktop connections.
+     *
+     * @param renderProfile to be used, or {@link RenderProfile#detect()} to choose the profile
+     *                      depending on the environment the application is running in
+     * @return builder for chaining
+     * @implNote Affects the sliding of drawers, the fading of the glass pane and the tab bar and
+     *           the drop shadows of the default stylesheet, which are removed using the
+     *           {@code :reduced-effects} pseudo class of the workbench.
+     */
+    public final WorkbenchBuilder renderProfile(RenderProfile renderProfile) {
+      this.renderProfile = renderProfile;
+      return this;
+    }
+
     /**
      * Defines how {@link Tab} should be created to be used as tabs in the view.
      *
@@ -333,6 +633,19 @@ public final class Workbench extends Control {
   private Workbench(WorkbenchBuilder builder) {
     this();
     setModulesPerPage(builder.modulesPerPage);
+    setAdaptiveModulesPerPage(builder.adaptiveModulesPerPage);
+    setRasterizeIcons(builder.rasterizeIcons);
+    setVirtualizedTabs(builder.virtualizedTabs);
+    setTabPreviews(builder.tabPreviews);
+    setMaxHiddenOverlays(builder.maxHiddenOverlays);
+    setHiddenOverlayTimeout(builder.hiddenOverlayTimeout);
+    setMaxDialogsShown(builder.maxDialogsShown);
+    setDialogInterval(builder.dialogInterval);
+    setDialogCoalescing(builder.dialogCoalescing);
+    setExceptionAggregation(builder.exceptionAggregation);
+    setMaxNotificationsShown(builder.maxNotificationsShown);
+    setNotificationDuration(builder.notificationDuration);
+    setRenderProfile(builder.renderProfile);
     initFactories(builder);
     initToolbarControls(builder);
     initNavigationDrawer(builder);
@@ -387,6 +700,20 @@ public final class Workbench extends Control {
   }
 
   private void initListeners() {
+    // remove hidden overlays which exceed the new limits
+    hiddenOverlaysTimer.setOnFinished(event -> evictHiddenOverlays());
+    maxHiddenOverlays.addListener(observable -> evictHiddenOverlays());
+    hiddenOverlayTimeout.addListener(observable -> evictHiddenOverlays());
+    // show queued dialogs if the new limits allow it
+    maxDialogsShown.addListener(observable -> dialogScheduler.update());
+    dialogInterval.addListener(observable -> dialogScheduler.update());
+    // show queued notifications if the new limit allows it
+    maxNotificationsShown.addListener(observable -> notificationScheduler.update());
+    // let the stylesheet skip effects if the render profile doesn't allow them
+    glassPane.renderProfileProperty().bind(renderProfile);
+    renderProfile.addListener((observable, oldProfile, newProfile) ->
+        pseudoClassStateChanged(REDUCED_EFFECTS, !newProfile.hasEffects()));
+
     // handle changes of the active module
     activeModule.addListener((observable, oldModule, newModule) -> {
       LOGGER.trace("Module Listener - Old Module: " + oldModule);
@@ -506,6 +833,24 @@ public final class Workbench extends Control {
     activeModule.setValue(null);
   }
 
+  /**
+   * Moves an open {@code module} to a new position within the open modules, which results in its
+   * tab being moved to the new position.
+   *
+   * @param module to be moved
+   * @param index the new position of the {@code module} within {@link #getOpenModules()}
+   * @implNote The open modules are reordered as a permutation, so the existing tabs get moved
+   *           instead of being recreated.
+   */
+  public final void moveModule(WorkbenchModule module, int index) {
+    LOGGER.trace("moveModule - " + module + " to index " + index);
+    Objects.requireNonNull(module);
+    if (!openModules.contains(module)) {
+      throw new IllegalArgumentException("Module has not been opened yet.");
+    }
+    WorkbenchUtils.moveItem(openModules.get(), module, index);
+  }
+
   /**
    * Closes the {@code module}.
    *
@@ -639,12 +984,13 @@ public final class Workbench extends Control {
   public final boolean showOverlay(Region overlay, boolean blocking) {
     LOGGER.trace("showOverlay");
     if (!overlays.containsKey(overlay)) {
-      overlays.put(overlay, new WorkbenchOverlay(overlay, new GlassPane()));
+      overlays.put(overlay, new WorkbenchOverlay(overlay, glassPane));
     }
     // To prevent showing the same overlay twice
-    if (blockingOverlaysShown.contains(overlay) || nonBlockingOverlaysShown.contains(overlay)) {
+    if (!Objects.isNull(overlaysShown.putIfAbsent(overlay, blocking))) {
       return false;
     }
+    hiddenOverlays.remove(overlay);
     if (blocking) {
       LOGGER.trace("showOverlay - blocking");
       return blockingOverlaysShown.add(overlay);
@@ -672,7 +1018,7 @@ public final class Workbench extends Control {
     LOGGER.trace("showOverlay - animated");
     if (!overlays.containsKey(overlay)) {
       overlays.put(overlay,
-          new WorkbenchOverlay(overlay, new GlassPane(), slideIn(overlay), slideOut(overlay))
+          new WorkbenchOverlay(overlay, glassPane, slideIn(overlay), slideOut(overlay))
       );
       addInitialAnimationHandler(overlays.get(overlay), side);
     }
@@ -731,23 +1077,25 @@ public final class Workbench extends Control {
         }
       }
 
-      start.play();
+      Animations.play(start, getRenderProfile().getTimeScale());
     });
   }
 
   private TranslateTransition slideIn(Region overlay) {
-    TranslateTransition open = new TranslateTransition(
-        new Duration(ANIMATION_DURATION_DRAWER_OPEN), overlay);
+    TranslateTransition open = new TranslateTransition(Animations.DRAWER_OPEN_DURATION, overlay);
+    Animations.cacheWhileRunning(open, overlay);
     return open;
   }
 
   private TranslateTransition slideOut(Region overlay) {
-    TranslateTransition close = new TranslateTransition(
-        new Duration(ANIMATION_DURATION_DRAWER_CLOSE), overlay);
+    TranslateTransition close = new TranslateTransition(Animations.DRAWER_CLOSE_DURATION, overlay);
+    Animations.cacheWhileRunning(close, overlay);
     close.setOnFinished(event -> {
       overlay.setVisible(false);
       LOGGER.trace(
           "Overlay LayoutX: " + overlay.getLayoutX() + " TranslateX: " + overlay.getTranslateX());
+      // the overlay may have been skipped while it was sliding out
+      evictHiddenOverlays();
     });
     return close;
   }
@@ -765,13 +1113,60 @@ public final class Workbench extends Control {
    */
   public final boolean hideOverlay(Region overlay) {
     LOGGER.trace("hideOverlay");
-    if (blockingOverlaysShown.contains(overlay)) {
-      return blockingOverlaysShown.remove(overlay);
-    } else {
-      return nonBlockingOverlaysShown.remove(overlay);
+    if (Objects.isNull(overlaysShown.remove(overlay))) {
+      return false;
+    }
+    hiddenOverlays.put(overlay, System.nanoTime());
+    if (!blockingOverlaysShown.remove(overlay)) {
+      nonBlockingOverlaysShown.remove(overlay);
+    }
+    evictHiddenOverlays();
+    return true;
+  }
+
+  /**
+   * Removes hidden overlays from the scene graph, if there are more than {@link
+   * #getMaxHiddenOverlays()} of them or if they have been hidden for longer than {@link
+   * #getHiddenOverlayTimeout()}, and schedules the removal of the next hidden overlay to time out.
+   * Overlays which are still sliding out are skipped and only removed once they have finished
+   * sliding out.
+   */
+  private void evictHiddenOverlays() {
+    hiddenOverlaysTimer.stop();
+    Duration timeout = getHiddenOverlayTimeout();
+    boolean timing = !Objects.isNull(timeout) && !timeout.isIndefinite() && !timeout.isUnknown();
+    long timeoutNanos = timing ? (long) (timeout.toMillis() * 1_000_000) : Long.MAX_VALUE;
+    long now = System.nanoTime();
+
+    Iterator<Map.Entry<Region, Long>> iterator = hiddenOverlays.entrySet().iterator();
+    while (iterator.hasNext()) {
+      Map.Entry<Region, Long> hiddenOverlay = iterator.next();
+      long hiddenFor = now - hiddenOverlay.getValue();
+      boolean withinBounds = hiddenOverlays.size() <= Math.max(0, getMaxHiddenOverlays());
+      if (withinBounds && hiddenFor < timeoutNanos) {
+        // all overlays which follow were hidden more recently
+        if (timing) {
+          double remainingMillis = (timeoutNanos - hiddenFor) / 1_000_000d;
+          hiddenOverlaysTimer.setDuration(Duration.millis(remainingMillis));
+          hiddenOverlaysTimer.playFromStart();
+        }
+        return;
+      }
+      if (isSlidingOut(hiddenOverlay.getKey())) {
+        continue;
+      }
+      LOGGER.trace("Removing hidden overlay " + hiddenOverlay.getKey());
+      iterator.remove();
+      overlays.remove(hiddenOverlay.getKey());
     }
   }
 
+  private boolean isSlidingOut(Region overlay) {
+    WorkbenchOverlay workbenchOverlay = overlays.get(overlay);
+    return !Objects.isNull(workbenchOverlay) && workbenchOverlay.isAnimated()
+        && Status.RUNNING.equals(workbenchOverlay.getAnimationEnd().getStatus());
+  }
+
   /**
    * Removes all previously loaded overlays from the scene graph including all references to them,
    * in order to free up memory.
@@ -780,6 +1175,12 @@ public final class Workbench extends Control {
     LOGGER.trace("clearOverlays");
     nonBlockingOverlaysShown.clear();
     blockingOverlaysShown.clear();
+    overlaysShown.clear();
+    hiddenOverlays.clear();
+    hiddenOverlaysTimer.stop();
+    lazyDrawers.clear();
+    dialogScheduler.clear();
+    exceptionAggregator.clearDialogs();
     overlays.clear();
   }
 
@@ -793,12 +1194,80 @@ public final class Workbench extends Control {
    *           All dialogs are non-blocking by default. If you want to change this behavior, use
    *           {@link WorkbenchDialog#builder} to create a dialog and show it using
    *           {@link Workbench#showDialog(WorkbenchDialog)}.
+   *           The dialog may only be shown later, depending on {@link #getMaxDialogsShown()} and
+   *           {@link #getDialogInterval()}. If {@link #isDialogCoalescing()} is enabled and an
+   *           identical dialog is already being shown or waiting to be shown, the {@code dialog}
+   *           is merged into it and the identical dialog is returned instead.
+   *           This method may be called from any thread.
    */
   public final WorkbenchDialog showDialog(WorkbenchDialog dialog) {
+    return dialogScheduler.schedule(dialog);
+  }
+
+  /**
+   * Shows a {@link WorkbenchDialog} in the view, once the {@link DialogScheduler} decided it is
+   * its turn.
+   *
+   * @param dialog to be shown
+   */
+  private void displayDialog(WorkbenchDialog dialog) {
     DialogControl dialogControl = dialog.getDialogControl();
+    if (dialogControlPool.owns(dialogControl) && dialogControl.getDialog() != dialog) {
+      // the dialog is shown again, but its control has been reused since it was hidden
+      dialogControl = dialogControlPool.acquire(dialog.getType());
+      dialog.setDialogControl(dialogControl);
+      dialogControl.setDialog(dialog);
+    }
     dialogControl.setWorkbench(this);
     showOverlay(dialogControl, dialog.isBlocking());
-    return dialog;
+  }
+
+  /**
+   * Releases a {@link WorkbenchDialog} which has been merged into an identical dialog and will
+   * never be shown.
+   *
+   * @param dialog which has been merged
+   */
+  private void discardDialog(WorkbenchDialog dialog) {
+    if (!Objects.isNull(dialog.getDialogControl())) {
+      dialogControlPool.release(dialog.getDialogControl());
+    }
+  }
+
+  /**
+   * Creates a builder for a dialog without a {@link DialogControl}, which is only assigned by
+   * {@link #showPooledDialog(WorkbenchDialog)}.
+   *
+   * @param title   of the dialog
+   * @param message of the dialog
+   * @param type    of the dialog
+   * @return builder object
+   */
+  private WorkbenchDialogBuilder pooledDialog(String title, String message, Type type) {
+    return WorkbenchDialog.builder(title, message, type).dialogControl(null);
+  }
+
+  /**
+   * Shows a {@code dialog} which was created using {@link #pooledDialog(String, String, Type)},
+   * rendering it using a {@link DialogControl} of a previously hidden dialog of the same type, if
+   * there is one.
+   *
+   * @param dialog to be shown
+   * @return the {@link WorkbenchDialog}, which will be shown
+   * @implNote Pooled controls may still be part of the scene graph, so they are only handed out on
+   *           the JavaFX Application Thread. Dialogs which are shown from any other thread get a
+   *           new control instead. A dialog which is merged into an identical dialog never gets a
+   *           control assigned.
+   */
+  private WorkbenchDialog showPooledDialog(WorkbenchDialog dialog) {
+    if (Objects.isNull(dialog.getDialogControl())) {
+      if (!Platform.isFxApplicationThread()) {
+        dialog.setDialogControl(new DialogControl());
+      } else if (Objects.isNull(dialogScheduler.getIdentical(dialog))) {
+        dialog.setDialogControl(dialogControlPool.acquire(dialog.getType()));
+      }
+    }
+    return showDialog(dialog);
   }
 
   /**
@@ -816,8 +1285,8 @@ public final class Workbench extends Control {
                                                String message,
                                                Consumer<ButtonType> onResult) {
     WorkbenchDialog dialog =
-        WorkbenchDialog.builder(title, message, Type.ERROR).onResult(onResult).build();
-    return showDialog(dialog);
+        pooledDialog(title, message, Type.ERROR).onResult(onResult).build();
+    return showPooledDialog(dialog);
   }
 
   /**
@@ -831,16 +1300,26 @@ public final class Workbench extends Control {
    * @return the {@link WorkbenchDialog}, which will be shown
    * @implNote If the user closes a non-blocking dialog by clicking on the {@link GlassPane}, the
    *           result will be {@link ButtonType#CANCEL}.
+   *           If {@link #isExceptionAggregation()} is enabled and a dialog is already being shown
+   *           for an exception with the same fingerprint, this dialog is returned instead.
    */
   public final WorkbenchDialog showErrorDialog(String title,
                                                String message,
                                                Exception exception,
                                                Consumer<ButtonType> onResult) {
-    WorkbenchDialog dialog = WorkbenchDialog.builder(title, message, Type.ERROR)
+    if (isExceptionAggregation() && !Objects.isNull(exception)) {
+      return showPooledDialog(exceptionAggregator.aggregate(exception, onResult,
+          aggregatedResult -> pooledDialog(title, message, Type.ERROR)
+              .exception(exception)
+              .onResult(aggregatedResult)
+              .build()
+      ));
+    }
+    WorkbenchDialog dialog = pooledDialog(title, message, Type.ERROR)
         .exception(exception)
         .onResult(onResult)
         .build();
-    return showDialog(dialog);
+    return showPooledDialog(dialog);
   }
 
   /**
@@ -859,11 +1338,11 @@ public final class Workbench extends Control {
                                                String message,
                                                String details,
                                                Consumer<ButtonType> onResult) {
-    WorkbenchDialog dialog = WorkbenchDialog.builder(title, message, Type.ERROR)
+    WorkbenchDialog dialog = pooledDialog(title, message, Type.ERROR)
         .details(details)
         .onResult(onResult)
         .build();
-    return showDialog(dialog);
+    return showPooledDialog(dialog);
   }
 
   /**
@@ -881,8 +1360,8 @@ public final class Workbench extends Control {
                                                  String message,
                                                  Consumer<ButtonType> onResult) {
     WorkbenchDialog dialog =
-        WorkbenchDialog.builder(title, message, Type.WARNING).onResult(onResult).build();
-    return showDialog(dialog);
+        pooledDialog(title, message, Type.WARNING).onResult(onResult).build();
+    return showPooledDialog(dialog);
   }
 
   /**
@@ -900,8 +1379,8 @@ public final class Workbench extends Control {
                                                       String message,
                                                       Consumer<ButtonType> onResult) {
     WorkbenchDialog dialog =
-        WorkbenchDialog.builder(title, message, Type.CONFIRMATION).onResult(onResult).build();
-    return showDialog(dialog);
+        pooledDialog(title, message, Type.CONFIRMATION).onResult(onResult).build();
+    return showPooledDialog(dialog);
   }
 
   /**
@@ -919,8 +1398,8 @@ public final class Workbench extends Control {
                                                      String message,
                                                      Consumer<ButtonType> onResult) {
     WorkbenchDialog dialog =
-        WorkbenchDialog.builder(title, message, Type.INFORMATION).onResult(onResult).build();
-    return showDialog(dialog);
+        pooledDialog(title, message, Type.INFORMATION).onResult(onResult).build();
+    return showPooledDialog(dialog);
   }
 
   /**
@@ -928,12 +1407,52 @@ public final class Workbench extends Control {
    * using {@link #showDialog(WorkbenchDialog)}.
    *
    * @param dialog to be hidden
+   * @implNote Hiding a dialog which is neither being shown nor waiting to be shown has no effect,
+   *           so its {@link DialogControl} isn't taken away from another dialog it has been
+   *           reused for in the meantime.
    */
   public final void hideDialog(WorkbenchDialog dialog) {
     LOGGER.trace("hideDialog");
     DialogControl dialogControl = dialog.getDialogControl();
+    if (Objects.isNull(dialogControl)
+        || dialogControl.getDialog() != dialog
+        || !dialogScheduler.isScheduled(dialog)) {
+      LOGGER.trace("Dialog has already been hidden");
+      return;
+    }
     dialogControl.setWorkbench(null);
     hideOverlay(dialogControl);
+    // keep the control for the next dialog of the same type
+    dialogControlPool.release(dialogControl);
+    dialogScheduler.hidden(dialog);
+    exceptionAggregator.hidden(dialog);
+  }
+
+  /**
+   * Shows a notification with the {@code message} on top of the view, without blocking it.
+   *
+   * @param message to be shown
+   * @implNote At most {@link #getMaxNotificationsShown()} notifications are shown at the same
+   *           time, further notifications wait until one of them has been hidden. A notification
+   *           with the same message as a notification which is being shown or waiting to be shown
+   *           is merged into it, which increases its
+   *           {@link WorkbenchNotification#occurrencesProperty()}. Notifications are hidden
+   *           after {@link #getNotificationDuration()} or when they are clicked.
+   *           This method may be called from any thread.
+   */
+  public final void showNotification(String message) {
+    notificationScheduler.schedule(message);
+  }
+
+  /**
+   * Hides the {@code notification} which was previously shown in the view
+   * using {@link #showNotification(String)}.
+   *
+   * @param notification to be hidden
+   */
+  public final void hideNotification(WorkbenchNotification notification) {
+    LOGGER.trace("hideNotification");
+    notificationScheduler.hide(notification);
   }
 
   /**
@@ -960,9 +1479,7 @@ public final class Workbench extends Control {
    */
   public final void showDrawer(Region drawer, Side side, int percentage) {
     // fail fast
-    if (!Range.closed(0, MAX_PERCENT).or(number -> number == -1).test(percentage)) {
-      throw new IllegalArgumentException("Percentage needs to be between 0 and 100 or -1");
-    }
+    checkPercentage(percentage);
     Pos position;
     drawer.minWidthProperty().unbind();
     drawer.maxWidthProperty().unbind();
@@ -1000,6 +1517,66 @@ public final class Workbench extends Control {
     setDrawerShown(drawer);
   }
 
+  /**
+   * Shows the drawer built by the {@code drawerSupplier} on the defined {@code side} in the
+   * {@link Workbench}. The drawer is only built when it is shown for the first time.
+   *
+   * @param drawerSupplier which builds the drawer to be shown
+   * @param side           of the workbench, on which the drawer should be positioned
+   * @implNote Sizes the drawer like {@link #showDrawer(Region, Side)}. See
+   *           {@link #showDrawer(Supplier, Side, int)} on how the drawer is cached.
+   */
+  public final void showDrawer(Supplier<? extends Region> drawerSupplier, Side side) {
+    showDrawer(drawerSupplier, side, -1);
+  }
+
+  /**
+   * Shows the drawer built by the {@code drawerSupplier} on the defined {@code side} in the
+   * {@link Workbench}, ensuring the drawer doesn't cover more than the specified
+   * {@code percentage}. The drawer is only built when it is shown for the first time.
+   *
+   * @param drawerSupplier which builds the drawer to be shown
+   * @param side           of the workbench, on which the drawer should be positioned
+   * @param percentage     value between 0 and 100, defining how much <b>maximum</b> coverage the
+   *                       drawer should have or -1, to have the drawer size according to its
+   *                       computed size
+   * @implNote The drawer is built once per {@code drawerSupplier} and {@code side} and reused
+   *           whenever the same supplier instance is shown on that side again, so the supplier
+   *           should be kept instead of being created anew for every call. While it is hidden, the
+   *           drawer stays in the scene graph until it is removed according to
+   *           {@link #getMaxHiddenOverlays()} and {@link #getHiddenOverlayTimeout()}. From then on,
+   *           it may be released when memory is running low, in which case it is built again the
+   *           next time it is shown. {@link #clearOverlays()} releases all drawers.
+   */
+  public final void showDrawer(Supplier<? extends Region> drawerSupplier,
+                               Side side,
+                               int percentage) {
+    // fail fast, before the drawer gets built
+    checkPercentage(percentage);
+    Objects.requireNonNull(drawerSupplier);
+    Objects.requireNonNull(side);
+    showDrawer(loadDrawer(drawerSupplier, side), side, percentage);
+  }
+
+  private void checkPercentage(int percentage) {
+    if (!Range.closed(0, MAX_PERCENT).or(number -> number == -1).test(percentage)) {
+      throw new IllegalArgumentException("Percentage needs to be between 0 and 100 or -1");
+    }
+  }
+
+  private Region loadDrawer(Supplier<? extends Region> drawerSupplier, Side side) {
+    Map<Side, SoftReference<Region>> drawers =
+        lazyDrawers.computeIfAbsent(drawerSupplier, supplier -> new EnumMap<>(Side.class));
+    SoftReference<Region> reference = drawers.get(side);
+    Region drawer = Objects.isNull(reference) ? null : reference.get();
+    if (Objects.isNull(drawer)) {
+      LOGGER.trace("Building drawer for side " + side);
+      drawer = Objects.requireNonNull(drawerSupplier.get(), "Drawer supplier returned null");
+      drawers.put(side, new SoftReference<>(drawer));
+    }
+    return drawer;
+  }
+
   private void bindDrawerWidth(Region drawer) {
     drawer.setMinWidth(0); // make sure minWidth isn't larger than maxWidth
     drawer.maxWidthProperty().bind(
@@ -1032,7 +1609,8 @@ public final class Workbench extends Control {
 
   /**
    * Hides the currently displayed drawer that was previously shown using
-   * {@link #showDrawer(Region, Side)} or {@link #showDrawer(Region, Side, int)}.
+   * {@link #showDrawer(Region, Side)}, {@link #showDrawer(Region, Side, int)} or their variants
+   * using a {@link Supplier}.
    */
   public final void hideDrawer() {
     setDrawerShown(null);
@@ -1156,6 +1734,30 @@ public final class Workbench extends Control {
     return FXCollections.unmodifiableObservableList(blockingOverlaysShown);
   }
 
+  /**
+   * Returns whether the {@code overlay} is being shown, either blocking or non-blocking.
+   *
+   * @param overlay to be checked
+   * @return true if the overlay is being shown
+   */
+  public final boolean isOverlayShown(Node overlay) {
+    return overlaysShown.containsKey(overlay);
+  }
+
+  /**
+   * Returns whether the {@code overlay} is being shown as a blocking overlay.
+   *
+   * @param overlay to be checked
+   * @return true if the overlay is being shown and is blocking
+   */
+  public final boolean isOverlayBlocking(Node overlay) {
+    return Boolean.TRUE.equals(overlaysShown.get(overlay));
+  }
+
+  public final ObservableList<WorkbenchNotification> getNotificationsShown() {
+    return FXCollections.unmodifiableObservableList(notificationsShown);
+  }
+
   public final int getModulesPerPage() {
     return modulesPerPage.get();
   }
@@ -1168,6 +1770,177 @@ public final class Workbench extends Control {
     return modulesPerPage;
   }
 
+  public final boolean isAdaptiveModulesPerPage() {
+    return adaptiveModulesPerPage.get();
+  }
+
+  public final void setAdaptiveModulesPerPage(boolean adaptiveModulesPerPage) {
+    this.adaptiveModulesPerPage.set(adaptiveModulesPerPage);
+  }
+
+  public final BooleanProperty adaptiveModulesPerPageProperty() {
+    return adaptiveModulesPerPage;
+  }
+
+  public final boolean isRasterizeIcons() {
+    return rasterizeIcons.get();
+  }
+
+  public final void setRasterizeIcons(boolean rasterizeIcons) {
+    this.rasterizeIcons.set(rasterizeIcons);
+  }
+
+  public final BooleanProperty rasterizeIconsProperty() {
+    return rasterizeIcons;
+  }
+
+  public final boolean isVirtualizedTabs() {
+    return virtualizedTabs.get();
+  }
+
+  public final void setVirtualizedTabs(boolean virtualizedTabs) {
+    this.virtualizedTabs.set(virtualizedTabs);
+  }
+
+  public final BooleanProperty virtualizedTabsProperty() {
+    return virtualizedTabs;
+  }
+
+  public final boolean isTabPreviews() {
+    return tabPreviews.get();
+  }
+
+  public final void setTabPreviews(boolean tabPreviews) {
+    this.tabPreviews.set(tabPreviews);
+  }
+
+  public final BooleanProperty tabPreviewsProperty() {
+    return tabPreviews;
+  }
+
+  public final int getMaxHiddenOverlays() {
+    return maxHiddenOverlays.get();
+  }
+
+  public final void setMaxHiddenOverlays(int maxHiddenOverlays) {
+    this.maxHiddenOverlays.set(maxHiddenOverlays);
+  }
+
+  public final IntegerProperty maxHiddenOverlaysProperty() {
+    return maxHiddenOverlays;
+  }
+
+  public final Duration getHiddenOverlayTimeout() {
+    return hiddenOverlayTimeout.get();
+  }
+
+  public final void setHiddenOverlayTimeout(Duration hiddenOverlayTimeout) {
+    this.hiddenOverlayTimeout.set(hiddenOverlayTimeout);
+  }
+
+  public final ObjectProperty<Duration> hiddenOverlayTimeoutProperty() {
+    return hiddenOverlayTimeout;
+  }
+
+  public final int getMaxDialogsShown() {
+    return maxDialogsShown.get();
+  }
+
+  public final void setMaxDialogsShown(int maxDialogsShown) {
+    this.maxDialogsShown.set(maxDialogsShown);
+  }
+
+  public final IntegerProperty maxDialogsShownProperty() {
+    return maxDialogsShown;
+  }
+
+  public final Duration getDialogInterval() {
+    return dialogInterval.get();
+  }
+
+  public final void setDialogInterval(Duration dialogInterval) {
+    this.dialogInterval.set(dialogInterval);
+  }
+
+  public final ObjectProperty<Duration> dialogIntervalProperty() {
+    return dialogInterval;
+  }
+
+  public final boolean isDialogCoalescing() {
+    return dialogCoalescing.get();
+  }
+
+  public final void setDialogCoalescing(boolean dialogCoalescing) {
+    this.dialogCoalescing.set(dialogCoalescing);
+  }
+
+  public final BooleanProperty dialogCoalescingProperty() {
+    return dialogCoalescing;
+  }
+
+  public final boolean isExceptionAggregation() {
+    return exceptionAggregation.get();
+  }
+
+  public final void setExceptionAggregation(boolean exceptionAggregation) {
+    this.exceptionAggregation.set(exceptionAggregation);
+  }
+
+  public final BooleanProperty exceptionAggregationProperty() {
+    return exceptionAggregation;
+  }
+
+  /**
+   * Returns the {@link ExceptionAggregator}, which keeps the occurrences of the exceptions which
+   * have been shown while {@link #isExceptionAggregation()} was enabled.
+   *
+   * @return the exception aggregator of this workbench
+   */
+  public final ExceptionAggregator getExceptionAggregator() {
+    return exceptionAggregator;
+  }
+
+  public final int getMaxNotificationsShown() {
+    return maxNotificationsShown.get();
+  }
+
+  public final void setMaxNotificationsShown(int maxNotificationsShown) {
+    this.maxNotificationsShown.set(maxNotificationsShown);
+  }
+
+  public final IntegerProperty maxNotificationsShownProperty() {
+    return maxNotificationsShown;
+  }
+
+  public final Duration getNotificationDuration() {
+    return notificationDuration.get();
+  }
+
+  public final void setNotificationDuration(Duration notificationDuration) {
+    this.notificationDuration.set(notificationDuration);
+  }
+
+  public final ObjectProperty<Duration> notificationDurationProperty() {
+    return notificationDuration;
+  }
+
+  /**
+   * Defines how much rendering effort is spent on animations and effects of the workbench.
+   *
+   * @return the property representing the render profile
+   */
+  public final ObjectProperty<RenderProfile> renderProfileProperty() {
+    return renderProfile;
+  }
+
+  public final RenderProfile getRenderProfile() {
+    return renderProfile.get();
+  }
+
+  public final void setRenderProfile(RenderProfile renderProfile) {
+    this.renderProfile.set(renderProfile);
+  }
+
   public final Callback<Workbench, Tab> getTabFactory() {
     return tabFactory.get();
   }
@@ -11,9 +11,11 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.function.Consumer;
 import javafx.beans.property.BooleanProperty;
+import javafx.beans.property.IntegerProperty;
 import javafx.beans.property.ObjectProperty;
 import javafx.beans.property.ReadOnlyBooleanProperty;
 import javafx.beans.property.SimpleBooleanProperty;
+import javafx.beans.property.SimpleIntegerProperty;
 import javafx.beans.property.SimpleObjectProperty;
 import javafx.beans.property.SimpleStringProperty;
 import javafx.beans.property.StringProperty;
@@ -42,7 +44,7 @@ public final class WorkbenchDialog {
   private Type type;
 
   private final StringProperty title = new SimpleStringProperty(this, "title");
-  private final StringProperty details = new SimpleStringProperty(this, "details", "");
+  private final DetailsProperty details = new DetailsProperty();
 
   private final BooleanProperty maximized =
       new SimpleBooleanProperty(this, "maximized");
@@ -50,6 +52,8 @@ public final class WorkbenchDialog {
       new SimpleBooleanProperty(this, "blocking");
   private final BooleanProperty buttonsBarShown =
       new SimpleBooleanProperty(this, "buttonsBarShown");
+  private final IntegerProperty occurrences =
+      new SimpleIntegerProperty(this, "occurrences", 1);
 
   private final ObjectProperty<Node> content =
       new SimpleObjectProperty<>(this, "content");
@@ -140,7 +144,9 @@ public final class WorkbenchDialog {
     private Exception exception = null;
     private String details = "";
     private Consumer<ButtonType> onResult = null;
-    private DialogControl dialogControl = new DialogControl();
+    // only created when building, if no other dialogControl was specified
+    private DialogControl dialogControl = null;
+    private boolean dialogControlSpecified = false;
     private EventHandler<Event> onShown = null;
     private EventHandler<Event> onHidden = null;
 
@@ -218,7 +224,8 @@ public final class WorkbenchDialog {
 
     /**
      * Defines the exception to be shown in an <b>error</b> dialog and
-     * sets {@link WorkbenchDialog#details} to the stacktrace of this {@code exception}.
+     * sets {@link WorkbenchDialog#details} to the stacktrace of this {@code exception}, which is
+     * only formatted once the details are requested.
      *
      * @param exception to be shown
      * @return builder for chaining
@@ -249,6 +256,7 @@ public final class WorkbenchDialog {
      */
     public final WorkbenchDialogBuilder dialogControl(DialogControl dialogControl) {
       this.dialogControl = dialogControl;
+      this.dialogControlSpecified = true;
       return this;
     }
 
@@ -295,9 +303,7 @@ public final class WorkbenchDialog {
     // update details with stacktrace of exception, whenever exception is changed
     exceptionProperty().addListener((observable, oldException, newException) -> {
       if (!Objects.isNull(newException)) {
-        StringWriter stringWriter = new StringWriter();
-        newException.printStackTrace(new PrintWriter(stringWriter));
-        setDetails(stringWriter.toString());
+        details.setException(newException);
       }
     });
 
@@ -320,7 +326,8 @@ public final class WorkbenchDialog {
     if (!Strings.isNullOrEmpty(builder.details)) {
       setDetails(builder.details);
     }
-    setDialogControl(builder.dialogControl);
+    setDialogControl(
+        builder.dialogControlSpecified ? builder.dialogControl : new DialogControl());
     if (!Objects.isNull(getDialogControl())) {
       setOnShown(builder.onShown);
       setOnHidden(builder.onHidden);
@@ -329,7 +336,9 @@ public final class WorkbenchDialog {
     }
     // set itself to changing dialogControls
     dialogControlProperty().addListener((observable, oldDialogControl, newDialogControl) -> {
-      newDialogControl.setDialog(this);
+      if (!Objects.isNull(newDialogControl)) {
+        newDialogControl.setDialog(this);
+      }
     });
   }
 
@@ -503,6 +512,28 @@ public final class WorkbenchDialog {
     buttonsBarShownProperty().set(buttonsBarShown);
   }
 
+  // occurrences
+
+  /**
+   * Represents how many times this dialog has been requested to be shown. Identical dialogs which
+   * are requested while this dialog is already being shown or waiting to be shown are merged into
+   * this dialog, instead of being shown separately.
+   *
+   * @return the property representing how many times this dialog has been requested
+   * @see com.dlsc.workbenchfx.Workbench.WorkbenchBuilder#dialogCoalescing(boolean)
+   */
+  public final IntegerProperty occurrencesProperty() {
+    return occurrences;
+  }
+
+  public final int getOccurrences() {
+    return occurrences.get();
+  }
+
+  public final void setOccurrences(int occurrences) {
+    this.occurrences.set(occurrences);
+  }
+
   // exception
 
   public final ObjectProperty<Exception> exceptionProperty() {
@@ -531,6 +562,72 @@ public final class WorkbenchDialog {
     this.details.set(details);
   }
 
+  /**
+   * Returns whether this dialog has any details to be shown, without formatting the stacktrace of
+   * the {@link #exceptionProperty()}, if the details haven't been requested yet.
+   *
+   * @return true if there are details to be shown
+   */
+  public final boolean hasDetails() {
+    return details.hasException() || !Strings.isNullOrEmpty(details.get());
+  }
+
+  /**
+   * Holds the details of the dialog, which are the stacktrace of the {@link #exceptionProperty()}
+   * until other details are set. The stacktrace is only formatted once the details are actually
+   * requested, while listeners are invalidated as soon as the exception changes.
+   */
+  private final class DetailsProperty extends SimpleStringProperty {
+    private Exception exception;
+    private String stackTrace;
+
+    private DetailsProperty() {
+      super(WorkbenchDialog.this, "details", "");
+    }
+
+    private void setException(Exception exception) {
+      this.exception = exception;
+      stackTrace = null;
+      fireValueChangedEvent();
+    }
+
+    private boolean hasException() {
+      return !Objects.isNull(exception) && !isBound();
+    }
+
+    @Override
+    public String get() {
+      // always validate the property, so it keeps reporting invalidations of its own value
+      String value = super.get();
+      if (!hasException()) {
+        return value;
+      }
+      if (Objects.isNull(stackTrace)) {
+        stackTrace = printStackTrace(exception);
+      }
+      return stackTrace;
+    }
+
+    @Override
+    public void set(String newValue) {
+      // details which are set explicitly replace the stacktrace of the exception
+      boolean replacesException = hasException();
+      exception = null;
+      stackTrace = null;
+      if (replacesException && Objects.equals(super.get(), newValue)) {
+        fireValueChangedEvent();
+      } else {
+        super.set(newValue);
+      }
+    }
+
+    private String printStackTrace(Exception ex) {
+      StringWriter stringWriter = new StringWriter();
+      ex.printStackTrace(new PrintWriter(stringWriter));
+      return stringWriter.toString();
+    }
+  }
+
   // blocking dialog or non-blocking dialog (modal or not modal)
 
   public final BooleanProperty blockingProperty() {
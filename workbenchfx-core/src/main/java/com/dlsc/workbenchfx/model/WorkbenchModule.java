@@ -1,6 +1,7 @@
 package com.dlsc.workbenchfx.model;
 
 import com.dlsc.workbenchfx.Workbench;
+import com.dlsc.workbenchfx.util.IconCache;
 import com.dlsc.workbenchfx.view.controls.ToolbarControl;
 import com.dlsc.workbenchfx.view.controls.ToolbarItem;
 import com.dlsc.workbenchfx.view.controls.module.Tab;
@@ -15,6 +16,7 @@ import javafx.collections.ObservableList;
 import javafx.scene.Node;
 import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
+import javafx.scene.paint.Paint;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -209,6 +211,43 @@ public abstract class WorkbenchModule {
     return new ImageView(imgIcon);
   }
 
+  /**
+   * Returns the icon of this module as an {@link ImageView}, which displays an image that is
+   * shared with the views of other icons.
+   *
+   * @param size of the icon in pixels, only applies to glyph icons
+   * @param fill of the icon, only applies to glyph icons
+   * @return the icon of this module as an {@link ImageView}
+   * @implNote Glyph icons are rasterized only once per size and fill into an atlas page of
+   *           the {@link IconCache} and displayed as a viewport of it. Modules which use an
+   *           {@link Image} as their icon return a view of the same image, regardless of the size
+   *           and fill.
+   */
+  public final ImageView getIcon(double size, Paint fill) {
+    if (!Objects.isNull(faIcon)) {
+      return IconCache.createImageView(faIcon, size, fill);
+    } else if (!Objects.isNull(mdIcon)) {
+      return IconCache.createImageView(mdIcon, size, fill);
+    }
+    return new ImageView(imgIcon);
+  }
+
+  /**
+   * Updates an {@link ImageView}, which has been returned by {@link #getIcon(double, Paint)} of
+   * this module, to show the icon with another size and fill.
+   *
+   * @param imageView which shows the icon of this module
+   * @param size of the icon in pixels, only applies to glyph icons
+   * @param fill of the icon, only applies to glyph icons
+   */
+  public final void updateIcon(ImageView imageView, double size, Paint fill) {
+    if (!Objects.isNull(faIcon)) {
+      IconCache.updateImageView(imageView, faIcon, size, fill);
+    } else if (!Objects.isNull(mdIcon)) {
+      IconCache.updateImageView(imageView, mdIcon, size, fill);
+    }
+  }
+
   /**
    * Returns an {@link ObservableList} which stores the toolbar items of the module.
    * If it's not empty, the {@link Workbench} creates a pre styled {@link ToolbarControl}
@@ -0,0 +1,55 @@
+package com.dlsc.workbenchfx.model;
+
+import com.dlsc.workbenchfx.Workbench;
+import javafx.beans.property.IntegerProperty;
+import javafx.beans.property.SimpleIntegerProperty;
+
+/**
+ * Represents the model class of a notification, which shows a short message on top of the view
+ * without blocking it.
+ *
+ * <p>A notification can be shown using:<br>
+ * {@link Workbench#showNotification(String)}
+ *
+ * @author François Martin
+ * @author Marco Sanfratello
+ */
+public final class WorkbenchNotification {
+
+  private final String message;
+
+  private final IntegerProperty occurrences =
+      new SimpleIntegerProperty(this, "occurrences", 1);
+
+  /**
+   * Initializes a new notification.
+   *
+   * @param message to be shown
+   */
+  public WorkbenchNotification(String message) {
+    this.message = message;
+  }
+
+  public String getMessage() {
+    return message;
+  }
+
+  /**
+   * Defines how many times this notification has been requested to be shown. Notifications with
+   * the same message which are requested while this notification is already being shown or
+   * waiting to be shown are merged into this notification.
+   *
+   * @return the property representing how many times this notification has been requested
+   */
+  public final IntegerProperty occurrencesProperty() {
+    return occurrences;
+  }
+
+  public final int getOccurrences() {
+    return occurrences.get();
+  }
+
+  public final void setOccurrences(int occurrences) {
+    this.occurrences.set(occurrences);
+  }
+}
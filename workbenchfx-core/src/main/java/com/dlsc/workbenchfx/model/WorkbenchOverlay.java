@@ -66,6 +66,8 @@ public final class WorkbenchOverlay {
   private void setupInitializedListeners(Region overlay) {
     overlay.widthProperty().addListener(observable -> initialize(overlay));
     overlay.heightProperty().addListener(observable -> initialize(overlay));
+    // an overlay which was removed from the scene graph and is loaded again keeps its size
+    onInitialized.addListener(observable -> initialize(overlay));
   }
 
   private void initialize(Region overlay) {
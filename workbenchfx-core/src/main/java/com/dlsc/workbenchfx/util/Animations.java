@@ -0,0 +1,195 @@
+package com.dlsc.workbenchfx.util;
+
+import java.util.Objects;
+import javafx.animation.Animation;
+import javafx.animation.Animation.Status;
+import javafx.animation.FadeTransition;
+import javafx.beans.property.DoubleProperty;
+import javafx.beans.property.SimpleDoubleProperty;
+import javafx.event.ActionEvent;
+import javafx.event.EventHandler;
+import javafx.scene.CacheHint;
+import javafx.scene.Node;
+import javafx.util.Duration;
+
+/**
+ * Plays the animations of WorkbenchFX, reusing the transitions of the nodes which are animated.
+ *
+ * <p>Every animation is played according to a global {@link #timeScaleProperty()}, which allows
+ * to slow down or speed up all animations at once, or to turn them off entirely.
+ *
+ * @author François Martin
+ * @author Marco Sanfratello
+ */
+public final class Animations {
+
+  /**
+   * Duration of animations according to material design guidelines.
+   * @see <a href="https://material.io/design/motion/speed.html#duration">
+   * Speed - Material Design</a>
+   */
+  public static final Duration DRAWER_OPEN_DURATION = Duration.millis(250);
+  public static final Duration DRAWER_CLOSE_DURATION = Duration.millis(200);
+  public static final Duration FADE_DURATION = Duration.millis(200);
+
+  private static final double DEFAULT_TIME_SCALE = 1;
+
+  // key of the FadeTransition which is kept in the properties of the animated node
+  private static final Object FADE_TRANSITION = new Object();
+  // key of the caching of the animated node before it was cached by an animation
+  private static final Object PREVIOUS_CACHING = new Object();
+
+  private static final DoubleProperty timeScale =
+      new SimpleDoubleProperty(Animations.class, "timeScale", DEFAULT_TIME_SCALE);
+
+  /**
+   * Utility class should not be possible to be instantiated.
+   */
+  private Animations() {
+
+  }
+
+  /**
+   * Plays the {@code animation} from the start, according to the {@link #timeScaleProperty()}.
+   *
+   * @param animation to be played
+   */
+  public static void play(Animation animation) {
+    play(animation, 1);
+  }
+
+  /**
+   * Plays the {@code animation} from the start, according to the {@link #timeScaleProperty()}
+   * multiplied by the {@code timeScale}, for example the one of a {@link RenderProfile}.
+   *
+   * @param animation to be played
+   * @param timeScale to apply in addition to the {@link #timeScaleProperty()}
+   */
+  public static void play(Animation animation, double timeScale) {
+    double scale = getTimeScale() * timeScale;
+    if (scale <= 0) {
+      // animations are turned off, skip right to the end
+      animation.setRate(1);
+      animation.playFrom(animation.getCycleDuration());
+    } else {
+      animation.setRate(1 / scale);
+      animation.playFromStart();
+    }
+  }
+
+  /**
+   * Fades the {@code node} from its current opacity to the {@code opacity}. Every node has only
+   * one {@link FadeTransition}, which is reused for all of its fades. If the node is still fading,
+   * the running fade is interrupted and its action isn't performed anymore.
+   *
+   * @param node       to be faded
+   * @param opacity    to fade the node to
+   * @param duration   of the fade, before applying the {@link #timeScaleProperty()}
+   * @param onFinished action to be performed when the fade has finished or null
+   */
+  public static void fade(Node node,
+                          double opacity,
+                          Duration duration,
+                          EventHandler<ActionEvent> onFinished) {
+    fade(node, opacity, duration, 1, onFinished);
+  }
+
+  /**
+   * Fades the {@code node} like {@link #fade(Node, double, Duration, EventHandler)}, applying the
+   * {@code timeScale} in addition to the {@link #timeScaleProperty()}.
+   *
+   * @param node       to be faded
+   * @param opacity    to fade the node to
+   * @param duration   of the fade, before applying the time scales
+   * @param timeScale  to apply in addition to the {@link #timeScaleProperty()}
+   * @param onFinished action to be performed when the fade has finished or null
+   */
+  public static void fade(Node node,
+                          double opacity,
+                          Duration duration,
+                          double timeScale,
+                          EventHandler<ActionEvent> onFinished) {
+    FadeTransition fadeTransition = (FadeTransition) node.getProperties().get(FADE_TRANSITION);
+    if (Objects.isNull(fadeTransition)) {
+      fadeTransition = new FadeTransition();
+      fadeTransition.setNode(node);
+      node.getProperties().put(FADE_TRANSITION, fadeTransition);
+    }
+    fadeTransition.stop();
+    fadeTransition.setDuration(duration);
+    fadeTransition.setFromValue(node.getOpacity());
+    fadeTransition.setToValue(opacity);
+    fadeTransition.setOnFinished(onFinished);
+    play(fadeTransition, timeScale);
+  }
+
+  /**
+   * Renders the {@code node} as a cached bitmap while the {@code animation} is running, and
+   * restores the previous caching of the node when the animation has stopped. Is meant for
+   * animations which only move the node, like a {@link javafx.animation.TranslateTransition}.
+   *
+   * @param animation during which the node should be cached
+   * @param node      to be cached
+   * @implNote Uses {@link CacheHint#SPEED}, which allows JavaFX to move the cached bitmap instead
+   *           of rendering the subtree of the node again on every frame, as long as its content
+   *           doesn't change. This trades the memory of the bitmap and rendering it once when the
+   *           animation starts for less work per frame. Whether the frame pacing of an animation
+   *           actually improves depends on the rendering pipeline and the complexity of the node,
+   *           and has not been measured. Multiple animations of the same node may be cached this
+   *           way, as long as only one of them is running at a time.
+   */
+  public static void cacheWhileRunning(Animation animation, Node node) {
+    animation.statusProperty().addListener((observable, oldStatus, newStatus) -> {
+      if (Status.RUNNING.equals(newStatus)) {
+        startCaching(node);
+      } else if (Status.STOPPED.equals(newStatus)) {
+        stopCaching(node);
+      }
+    });
+  }
+
+  private static void startCaching(Node node) {
+    // keep the caching from before the first animation, in case it was already cached
+    node.getProperties().putIfAbsent(
+        PREVIOUS_CACHING, new Caching(node.isCache(), node.getCacheHint()));
+    node.setCache(true);
+    node.setCacheHint(CacheHint.SPEED);
+  }
+
+  private static void stopCaching(Node node) {
+    Caching previousCaching = (Caching) node.getProperties().remove(PREVIOUS_CACHING);
+    if (!Objects.isNull(previousCaching)) {
+      node.setCacheHint(previousCaching.cacheHint);
+      node.setCache(previousCaching.cache);
+    }
+  }
+
+  /**
+   * Defines how fast all animations are being played. A value of {@code 1} plays all animations
+   * with their defined duration, a value of {@code 2} plays them twice as long and a value of
+   * {@code 0} turns animations off, so they immediately end.
+   *
+   * @return the property representing the time scale of all animations
+   */
+  public static DoubleProperty timeScaleProperty() {
+    return timeScale;
+  }
+
+  public static double getTimeScale() {
+    return timeScale.get();
+  }
+
+  public static void setTimeScale(double timeScale) {
+    Animations.timeScale.set(timeScale);
+  }
+
+  private static final class Caching {
+    private final boolean cache;
+    private final CacheHint cacheHint;
+
+    private Caching(boolean cache, CacheHint cacheHint) {
+      this.cache = cache;
+      this.cacheHint = cacheHint;
+    }
+  }
+}
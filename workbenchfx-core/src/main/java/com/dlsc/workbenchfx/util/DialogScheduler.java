@@ -0,0 +1,281 @@
+package com.dlsc.workbenchfx.util;
+
+import com.dlsc.workbenchfx.Workbench;
+import com.dlsc.workbenchfx.model.WorkbenchDialog;
+import com.dlsc.workbenchfx.view.controls.MultilineLabel;
+import com.dlsc.workbenchfx.view.controls.dialog.DialogErrorContent;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Consumer;
+import javafx.animation.Animation;
+import javafx.animation.PauseTransition;
+import javafx.application.Platform;
+import javafx.scene.control.ButtonType;
+import javafx.util.Duration;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Decides when the dialogs which are requested to be shown in a {@link Workbench} actually get
+ * shown. Dialogs wait in a queue while {@link Workbench#getMaxDialogsShown()} dialogs are being
+ * shown or while the last dialog has been shown less than {@link Workbench#getDialogInterval()}
+ * ago. If {@link Workbench#isDialogCoalescing()} is enabled, a dialog which is identical to a
+ * dialog being shown or waiting to be shown is merged into it, increasing its {@link
+ * WorkbenchDialog#occurrencesProperty()}, instead of being shown separately.
+ *
+ * <p>Dialogs may be scheduled from any thread. Dialogs which are scheduled outside of the JavaFX
+ * Application Thread are collected and handed over to it all at once, so a burst of dialogs causes
+ * only one update of the UI.
+ *
+ * @author François Martin
+ * @author Marco Sanfratello
+ */
+public final class DialogScheduler {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(DialogScheduler.class.getName());
+
+  private final Workbench workbench;
+  private final Consumer<WorkbenchDialog> show;
+  private final Consumer<WorkbenchDialog> discard;
+
+  // only accessed on the JavaFX Application Thread
+  private final Deque<WorkbenchDialog> queue = new ArrayDeque<>();
+  private final Set<WorkbenchDialog> queued = Collections.newSetFromMap(new IdentityHashMap<>());
+  private final Set<WorkbenchDialog> shown = Collections.newSetFromMap(new IdentityHashMap<>());
+  private final Map<List<Object>, WorkbenchDialog> dialogsByKey = new HashMap<>();
+  private final Map<WorkbenchDialog, List<Object>> keys = new IdentityHashMap<>();
+  private final Map<WorkbenchDialog, List<Consumer<ButtonType>>> mergedResults =
+      new IdentityHashMap<>();
+  private final PauseTransition intervalTimer = new PauseTransition();
+  private long lastShown = Long.MIN_VALUE;
+
+  // dialogs which were scheduled outside of the JavaFX Application Thread
+  private final List<WorkbenchDialog> pending = new ArrayList<>();
+  private boolean drainScheduled = false;
+
+  /**
+   * Creates a scheduler for the dialogs of a {@code workbench}.
+   *
+   * @param workbench which defines how dialogs should be scheduled
+   * @param show      shows a dialog in the view, once it is its turn
+   * @param discard   releases a dialog which has been merged into another dialog
+   */
+  public DialogScheduler(Workbench workbench,
+                         Consumer<WorkbenchDialog> show,
+                         Consumer<WorkbenchDialog> discard) {
+    this.workbench = workbench;
+    this.show = show;
+    this.discard = discard;
+    intervalTimer.setOnFinished(event -> update());
+  }
+
+  /**
+   * Requests a {@code dialog} to be shown.
+   *
+   * @param dialog to be shown
+   * @return the dialog which will be shown, which is the dialog the {@code dialog} has been merged
+   *         into, if there was an identical dialog
+   * @implNote If this method is called outside of the JavaFX Application Thread, the {@code dialog}
+   *           is always returned, since whether it will be merged is only decided on the JavaFX
+   *           Application Thread.
+   */
+  public WorkbenchDialog schedule(WorkbenchDialog dialog) {
+    Objects.requireNonNull(dialog);
+    if (!Platform.isFxApplicationThread()) {
+      synchronized (pending) {
+        pending.add(dialog);
+        if (!drainScheduled) {
+          drainScheduled = true;
+          Platform.runLater(this::drainPending);
+        }
+      }
+      return dialog;
+    }
+    WorkbenchDialog scheduled = enqueue(dialog);
+    update();
+    return scheduled;
+  }
+
+  /**
+   * Returns whether the {@code dialog} is being shown or waiting in the queue to be shown.
+   *
+   * @param dialog to be checked
+   * @return true if the dialog is being shown or waiting to be shown
+   */
+  public boolean isScheduled(WorkbenchDialog dialog) {
+    return shown.contains(dialog) || queued.contains(dialog);
+  }
+
+  /**
+   * Informs the scheduler that a {@code dialog} has been hidden, so the next dialog in the queue
+   * can be shown.
+   *
+   * @param dialog which has been hidden
+   */
+  public void hidden(WorkbenchDialog dialog) {
+    boolean wasShown = shown.remove(dialog);
+    if (!wasShown && queued.remove(dialog)) {
+      queue.remove(dialog);
+    }
+    List<Object> key = keys.remove(dialog);
+    if (!Objects.isNull(key)) {
+      dialogsByKey.remove(key);
+    }
+    mergedResults.remove(dialog);
+    if (wasShown) {
+      update();
+    }
+  }
+
+  /**
+   * Returns the dialog which is being shown or waiting to be shown, which the {@code dialog} would
+   * be merged into, if it was scheduled on the JavaFX Application Thread.
+   *
+   * @param dialog to be checked
+   * @return the identical dialog or null, if there is none or if
+   *         {@link Workbench#isDialogCoalescing()} is disabled
+   */
+  public WorkbenchDialog getIdentical(WorkbenchDialog dialog) {
+    if (!workbench.isDialogCoalescing()) {
+      return null;
+    }
+    return dialogsByKey.get(keyOf(dialog));
+  }
+
+  /**
+   * Shows as many dialogs of the queue as the limits currently allow.
+   */
+  public void update() {
+    while (!queue.isEmpty() && shown.size() < workbench.getMaxDialogsShown()) {
+      long now = System.nanoTime();
+      long interval = toNanos(workbench.getDialogInterval());
+      long sinceLastShown = now - lastShown;
+      if (lastShown != Long.MIN_VALUE && sinceLastShown < interval) {
+        // try again as soon as the rate limit allows showing the next dialog
+        if (intervalTimer.getStatus() != Animation.Status.RUNNING) {
+          intervalTimer.setDuration(Duration.millis((interval - sinceLastShown) / 1_000_000d));
+          intervalTimer.playFromStart();
+        }
+        return;
+      }
+      WorkbenchDialog dialog = queue.poll();
+      queued.remove(dialog);
+      shown.add(dialog);
+      lastShown = now;
+      show.accept(dialog);
+    }
+  }
+
+  /**
+   * Discards all dialogs which are waiting to be shown and forgets about the dialogs being shown.
+   */
+  public void clear() {
+    LOGGER.trace("Clearing dialog queue");
+    intervalTimer.stop();
+    queue.clear();
+    queued.clear();
+    shown.clear();
+    dialogsByKey.clear();
+    keys.clear();
+    mergedResults.clear();
+  }
+
+  /**
+   * Returns the amount of dialogs which are waiting to be shown.
+   *
+   * @return the size of the queue
+   */
+  public int getQueueSize() {
+    return queue.size();
+  }
+
+  private void drainPending() {
+    List<WorkbenchDialog> dialogs;
+    synchronized (pending) {
+      dialogs = new ArrayList<>(pending);
+      pending.clear();
+      drainScheduled = false;
+    }
+    LOGGER.trace("Scheduling " + dialogs.size() + " dialogs");
+    dialogs.forEach(this::enqueue);
+    update();
+  }
+
+  private WorkbenchDialog enqueue(WorkbenchDialog dialog) {
+    if (shown.contains(dialog) || queued.contains(dialog)) {
+      return dialog;
+    }
+    if (workbench.isDialogCoalescing()) {
+      List<Object> key = keyOf(dialog);
+      WorkbenchDialog identical = dialogsByKey.get(key);
+      if (!Objects.isNull(identical)) {
+        merge(identical, dialog);
+        return identical;
+      }
+      dialogsByKey.put(key, dialog);
+      keys.put(dialog, key);
+    }
+    queue.add(dialog);
+    queued.add(dialog);
+    return dialog;
+  }
+
+  private void merge(WorkbenchDialog target, WorkbenchDialog dialog) {
+    LOGGER.trace("Merging identical dialog into " + target.getTitle());
+    target.setOccurrences(target.getOccurrences() + dialog.getOccurrences());
+    // the result of the dialog being shown is also the result of the merged dialogs
+    mergedResults.computeIfAbsent(target, d -> {
+      List<Consumer<ButtonType>> results = new ArrayList<>();
+      Consumer<ButtonType> onResult = d.getOnResult();
+      d.setOnResult(buttonType -> {
+        onResult.accept(buttonType);
+        results.forEach(result -> result.accept(buttonType));
+      });
+      return results;
+    }).add(dialog.getOnResult());
+    discard.accept(dialog);
+  }
+
+  private static List<Object> keyOf(WorkbenchDialog dialog) {
+    Object message = dialog.getContent();
+    if (message instanceof DialogErrorContent) {
+      message = ((DialogErrorContent) message).getMessage();
+    }
+    if (message instanceof MultilineLabel) {
+      // dialogs created with a message have the same content, if their messages are the same
+      message = ((MultilineLabel) message).getMessage();
+    }
+    // avoids formatting the stacktrace, which is only done once the details are shown
+    Exception exception = dialog.getException();
+    Object details = Objects.isNull(exception)
+        ? dialog.getDetails() : ExceptionAggregator.fingerprint(exception);
+    return Arrays.asList(
+        dialog.getType(),
+        dialog.getTitle(),
+        message,
+        details,
+        dialog.isBlocking(),
+        new ArrayList<>(dialog.getButtonTypes())
+    );
+  }
+
+  private static long toNanos(Duration duration) {
+    if (Objects.isNull(duration) || duration.isUnknown()
+        || duration.lessThanOrEqualTo(Duration.ZERO)) {
+      return 0;
+    }
+    if (duration.isIndefinite()) {
+      return Long.MAX_VALUE;
+    }
+    return (long) (duration.toMillis() * 1_000_000);
+  }
+}
@@ -0,0 +1,220 @@
+package com.dlsc.workbenchfx.util;
+
+import com.dlsc.workbenchfx.Workbench;
+import com.dlsc.workbenchfx.model.WorkbenchDialog;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import javafx.application.Platform;
+import javafx.scene.control.ButtonType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Aggregates the exceptions which are shown in error dialogs of a {@link Workbench}. Exceptions
+ * are identified by a {@link #fingerprint(Throwable)} of their type and top stack frames. For each
+ * fingerprint, the amount of occurrences and the time of the first and last occurrence are kept
+ * for the {@link #MAXIMUM_SIZE} most recent fingerprints.
+ *
+ * <p>As long as an error dialog for a fingerprint is being shown, further occurrences of the same
+ * exception don't create a new dialog, but increase the {@link
+ * WorkbenchDialog#occurrencesProperty()} of the dialog being shown.
+ *
+ * <p>Exceptions may be aggregated from any thread.
+ *
+ * @author François Martin
+ * @author Marco Sanfratello
+ */
+public final class ExceptionAggregator {
+
+  private static final Logger LOGGER =
+      LoggerFactory.getLogger(ExceptionAggregator.class.getName());
+
+  /**
+   * Maximum amount of fingerprints to be kept, the least recently seen fingerprints are discarded
+   * first.
+   */
+  public static final int MAXIMUM_SIZE = 100;
+
+  /**
+   * Amount of stack frames, starting from the top, which are part of the fingerprint.
+   */
+  public static final int FINGERPRINT_FRAMES = 5;
+
+  private final Map<String, ExceptionRecord> records =
+      new LinkedHashMap<String, ExceptionRecord>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, ExceptionRecord> eldest) {
+          return size() > MAXIMUM_SIZE;
+        }
+      };
+  // records of which a dialog is being shown
+  private final Map<WorkbenchDialog, ExceptionRecord> dialogs = new IdentityHashMap<>();
+
+  /**
+   * Records an occurrence of the {@code exception} and returns the dialog to show it.
+   * If a dialog is already being shown for an exception with the same fingerprint, its
+   * occurrences are increased and it is returned, otherwise a new dialog is created.
+   *
+   * @param exception     which occurred
+   * @param onResult      the action to perform when a button of the dialog was pressed
+   * @param dialogFactory creates a new dialog for the exception, with the action to be performed
+   *                      when a button of the dialog was pressed
+   * @return the dialog which shows the {@code exception}
+   */
+  public synchronized WorkbenchDialog aggregate(
+      Exception exception,
+      Consumer<ButtonType> onResult,
+      Function<Consumer<ButtonType>, WorkbenchDialog> dialogFactory) {
+    String fingerprint = fingerprint(exception);
+    ExceptionRecord record = records.get(fingerprint);
+    if (Objects.isNull(record)) {
+      record = new ExceptionRecord(fingerprint, exception);
+      records.put(fingerprint, record);
+    }
+    record.occurred();
+
+    if (Objects.isNull(record.dialog)) {
+      // the result of the dialog is passed on to all occurrences aggregated into it
+      List<Consumer<ButtonType>> results = new CopyOnWriteArrayList<>();
+      record.results = results;
+      record.dialog = dialogFactory.apply(
+          buttonType -> results.forEach(result -> result.accept(buttonType)));
+      record.dialogOccurrences = 1;
+      dialogs.put(record.dialog, record);
+    } else {
+      LOGGER.trace("Aggregating exception into the dialog being shown: " + fingerprint);
+      record.dialogOccurrences++;
+      updateOccurrences(record.dialog, record.dialogOccurrences);
+    }
+    if (!Objects.isNull(onResult)) {
+      record.results.add(onResult);
+    }
+    return record.dialog;
+  }
+
+  /**
+   * Informs the aggregator that a {@code dialog} has been hidden, so the next occurrence of its
+   * exception will be shown in a new dialog.
+   *
+   * @param dialog which has been hidden
+   */
+  public synchronized void hidden(WorkbenchDialog dialog) {
+    ExceptionRecord record = dialogs.remove(dialog);
+    if (!Objects.isNull(record) && record.dialog == dialog) {
+      record.dialog = null;
+      record.results = null;
+    }
+  }
+
+  /**
+   * Forgets about all dialogs being shown, while keeping the recorded occurrences.
+   */
+  public synchronized void clearDialogs() {
+    dialogs.values().forEach(record -> {
+      record.dialog = null;
+      record.results = null;
+    });
+    dialogs.clear();
+  }
+
+  /**
+   * Returns all recorded fingerprints, from the least to the most recently seen.
+   *
+   * @return the recorded exceptions
+   */
+  public synchronized List<ExceptionRecord> getRecords() {
+    return new ArrayList<>(records.values());
+  }
+
+  /**
+   * Discards all recorded exceptions and forgets about all dialogs being shown.
+   */
+  public synchronized void clear() {
+    LOGGER.trace("Clearing recorded exceptions");
+    clearDialogs();
+    records.clear();
+  }
+
+  /**
+   * Creates a fingerprint which is equal for exceptions of the same type thrown at the same place,
+   * regardless of their message.
+   *
+   * @param throwable to create the fingerprint for
+   * @return the fingerprint of the {@code throwable}
+   */
+  public static String fingerprint(Throwable throwable) {
+    StringBuilder fingerprint = new StringBuilder(throwable.getClass().getName());
+    StackTraceElement[] stackTrace = throwable.getStackTrace();
+    for (int i = 0; i < Math.min(FINGERPRINT_FRAMES, stackTrace.length); i++) {
+      fingerprint.append('|').append(stackTrace[i]);
+    }
+    return fingerprint.toString();
+  }
+
+  private static void updateOccurrences(WorkbenchDialog dialog, int occurrences) {
+    if (Platform.isFxApplicationThread()) {
+      dialog.setOccurrences(occurrences);
+    } else {
+      Platform.runLater(() -> dialog.setOccurrences(occurrences));
+    }
+  }
+
+  /**
+   * Represents all occurrences of exceptions with the same fingerprint.
+   */
+  public static final class ExceptionRecord {
+    private final String fingerprint;
+    private final Exception exception;
+    private final Instant firstSeen = Instant.now();
+    private Instant lastSeen;
+    private int count;
+
+    // only accessed while holding the lock of the aggregator
+    private WorkbenchDialog dialog;
+    private int dialogOccurrences;
+    private List<Consumer<ButtonType>> results;
+
+    private ExceptionRecord(String fingerprint, Exception exception) {
+      this.fingerprint = fingerprint;
+      this.exception = exception;
+    }
+
+    private synchronized void occurred() {
+      count++;
+      lastSeen = Instant.now();
+    }
+
+    public String getFingerprint() {
+      return fingerprint;
+    }
+
+    /**
+     * Returns the exception which occurred first with this fingerprint.
+     *
+     * @return the first exception
+     */
+    public Exception getException() {
+      return exception;
+    }
+
+    public Instant getFirstSeen() {
+      return firstSeen;
+    }
+
+    public synchronized Instant getLastSeen() {
+      return lastSeen;
+    }
+
+    public synchronized int getCount() {
+      return count;
+    }
+  }
+}
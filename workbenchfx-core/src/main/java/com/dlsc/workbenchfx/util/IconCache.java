@@ -0,0 +1,383 @@
+package com.dlsc.workbenchfx.util;
+
+import de.jensd.fx.glyphs.GlyphIcon;
+import de.jensd.fx.glyphs.GlyphIcons;
+import de.jensd.fx.glyphs.fontawesome.FontAwesomeIcon;
+import de.jensd.fx.glyphs.fontawesome.FontAwesomeIconView;
+import de.jensd.fx.glyphs.materialdesignicons.MaterialDesignIcon;
+import de.jensd.fx.glyphs.materialdesignicons.MaterialDesignIconView;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import javafx.application.Platform;
+import javafx.geometry.Rectangle2D;
+import javafx.scene.SnapshotParameters;
+import javafx.scene.image.Image;
+import javafx.scene.image.ImageView;
+import javafx.scene.image.WritableImage;
+import javafx.scene.paint.Color;
+import javafx.scene.paint.Paint;
+import javafx.scene.transform.Scale;
+import javafx.stage.Screen;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Caches rasterized glyph icons in atlas pages, so every combination of icon, size and fill only
+ * needs to be rendered once and all {@link ImageView}s displaying icons share a few images, each
+ * showing their icon as a viewport of an atlas page.
+ *
+ * <p>Icons are packed row by row into the page which is currently being filled. Once it is full, a
+ * new page is started. If there are already {@link #MAX_PAGES} pages, the least recently used page
+ * is evicted: the icons it contains are removed from the cache and rasterized again into a new page
+ * the next time they are requested. {@link ImageView}s still referencing an evicted page keep
+ * displaying their icon, since the pixels of a page are never overwritten.
+ *
+ * <p>All methods of this class must be called on the JavaFX Application Thread.
+ *
+ * @author François Martin
+ * @author Marco Sanfratello
+ * @implNote Writing an icon into a page marks the whole page image as changed, which causes it
+ *           to be uploaded again on the next pulse. Pages are therefore kept small, and icons
+ *           which are rasterized during the same pulse only cause one upload per page.
+ */
+public final class IconCache {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(IconCache.class.getName());
+
+  /**
+   * Width and height of an atlas page in pixels.
+   */
+  public static final int PAGE_SIZE = 256;
+
+  /**
+   * Maximum amount of atlas pages, before the least recently used page gets evicted.
+   */
+  public static final int MAX_PAGES = 16;
+
+  /**
+   * Space in pixels between the icons in a page, to prevent the edges of neighbouring icons from
+   * bleeding into each other when scaled.
+   */
+  private static final int PADDING = 1;
+
+  private static final Map<IconKey, Entry> ENTRIES = new HashMap<>();
+  // pages in order of their last use, starting with the least recently used page
+  private static final Set<Page> PAGES = new LinkedHashSet<>();
+  private static Page currentPage;
+  private static double renderScale = Double.NaN;
+
+  /**
+   * Utility class should not be possible to be instantiated.
+   */
+  private IconCache() {
+
+  }
+
+  /**
+   * Creates a new {@link ImageView} displaying a glyph icon as a viewport of an atlas page.
+   *
+   * @param glyph to be displayed, either a {@link FontAwesomeIcon} or a {@link MaterialDesignIcon}
+   * @param size of the glyph in pixels
+   * @param fill of the glyph
+   * @return a new {@link ImageView} of the glyph
+   * @throws IllegalArgumentException if the type of the glyph is not supported or the glyph is
+   *                                  too big to fit into a page
+   * @throws IllegalStateException if the method is not being called on the JavaFX Application
+   *                               Thread
+   */
+  public static ImageView createImageView(GlyphIcons glyph, double size, Paint fill) {
+    ImageView imageView = new ImageView();
+    imageView.setSmooth(true);
+    imageView.getStyleClass().add("glyph-image");
+    updateImageView(imageView, glyph, size, fill);
+    return imageView;
+  }
+
+  /**
+   * Updates an {@link ImageView}, which has been created by
+   * {@link #createImageView(GlyphIcons, double, Paint)}, to display another glyph icon, size or
+   * fill. If the icon is contained in the same page, only the viewport of the view changes.
+   *
+   * @param imageView to be updated
+   * @param glyph to be displayed, either a {@link FontAwesomeIcon} or a {@link MaterialDesignIcon}
+   * @param size of the glyph in pixels
+   * @param fill of the glyph
+   * @throws IllegalArgumentException if the type of the glyph is not supported or the glyph is
+   *                                  too big to fit into a page
+   * @throws IllegalStateException if the method is not being called on the JavaFX Application
+   *                               Thread
+   */
+  public static void updateImageView(
+      ImageView imageView, GlyphIcons glyph, double size, Paint fill) {
+    Entry entry = getEntry(glyph, size, fill);
+    Rectangle2D viewport = entry.viewport;
+    imageView.setImage(entry.page.image);
+    imageView.setViewport(viewport);
+    // pages are rasterized at the render scale, display the icon in its logical size
+    imageView.setFitWidth(viewport.getWidth() / getRenderScale());
+    imageView.setFitHeight(viewport.getHeight() / getRenderScale());
+  }
+
+  /**
+   * Returns the area of the atlas page which contains the glyph icon, rasterizing it if it isn't
+   * contained in any page yet.
+   *
+   * @param glyph to be rasterized, either a {@link FontAwesomeIcon} or a {@link MaterialDesignIcon}
+   * @param size of the glyph in pixels
+   * @param fill of the glyph
+   * @return the viewport of the glyph in pixels of the page returned by
+   *         {@link #getPage(GlyphIcons, double, Paint)}
+   * @throws IllegalArgumentException if the type of the glyph is not supported or the glyph is
+   *                                  too big to fit into a page
+   * @throws IllegalStateException if the method is not being called on the JavaFX Application
+   *                               Thread
+   */
+  public static Rectangle2D getViewport(GlyphIcons glyph, double size, Paint fill) {
+    return getEntry(glyph, size, fill).viewport;
+  }
+
+  /**
+   * Returns the atlas page which contains the glyph icon, rasterizing it if it isn't contained in
+   * any page yet.
+   *
+   * @param glyph to be rasterized, either a {@link FontAwesomeIcon} or a {@link MaterialDesignIcon}
+   * @param size of the glyph in pixels
+   * @param fill of the glyph
+   * @return the image of the page
+   * @throws IllegalArgumentException if the type of the glyph is not supported or the glyph is
+   *                                  too big to fit into a page
+   * @throws IllegalStateException if the method is not being called on the JavaFX Application
+   *                               Thread
+   */
+  public static Image getPage(GlyphIcons glyph, double size, Paint fill) {
+    return getEntry(glyph, size, fill).page.image;
+  }
+
+  /**
+   * Returns the amount of atlas pages which currently contain icons.
+   *
+   * @return the amount of pages, at most {@link #MAX_PAGES}
+   */
+  public static int getPageCount() {
+    return PAGES.size();
+  }
+
+  /**
+   * Returns the scale at which the icons are being rasterized into the atlas pages.
+   *
+   * @return the render scale
+   * @implNote Unless defined with {@link #setRenderScale(double)}, the output scale of the primary
+   *           screen is used if the JavaFX runtime provides it, otherwise 1.
+   */
+  public static double getRenderScale() {
+    if (Double.isNaN(renderScale)) {
+      renderScale = detectRenderScale();
+    }
+    return renderScale;
+  }
+
+  /**
+   * Defines the scale at which the icons are being rasterized into the atlas pages. Changing it
+   * clears the cache, to rasterize all icons again at the new scale.
+   *
+   * @param renderScale to be used, e.g. 2 for screens with twice the pixel density
+   */
+  public static void setRenderScale(double renderScale) {
+    if (renderScale <= 0) {
+      throw new IllegalArgumentException("Render scale must be positive");
+    }
+    if (IconCache.renderScale != renderScale) {
+      clear();
+      IconCache.renderScale = renderScale;
+    }
+  }
+
+  /**
+   * Returns the amount of rasterized icons which are currently in the atlas pages.
+   *
+   * @return the size of the cache
+   */
+  public static int size() {
+    return ENTRIES.size();
+  }
+
+  /**
+   * Removes all rasterized icons from the cache and discards all atlas pages.
+   */
+  public static void clear() {
+    LOGGER.trace("Clearing icon cache");
+    ENTRIES.clear();
+    PAGES.clear();
+    currentPage = null;
+  }
+
+  private static Entry getEntry(GlyphIcons glyph, double size, Paint fill) {
+    Objects.requireNonNull(glyph);
+    Objects.requireNonNull(fill);
+    assertFxThread();
+    IconKey key = new IconKey(glyph, size, fill);
+    Entry entry = ENTRIES.get(key);
+    if (Objects.isNull(entry)) {
+      entry = rasterize(key, glyph, size, fill);
+      ENTRIES.put(key, entry);
+    } else {
+      // mark the page as most recently used
+      PAGES.remove(entry.page);
+      PAGES.add(entry.page);
+    }
+    return entry;
+  }
+
+  private static Entry rasterize(IconKey key, GlyphIcons glyph, double size, Paint fill) {
+    LOGGER.trace("Rasterizing " + glyph.name() + " with size " + size + " and fill " + fill);
+    GlyphIcon<?> glyphIcon;
+    if (glyph instanceof FontAwesomeIcon) {
+      glyphIcon = new FontAwesomeIconView((FontAwesomeIcon) glyph);
+    } else if (glyph instanceof MaterialDesignIcon) {
+      glyphIcon = new MaterialDesignIconView((MaterialDesignIcon) glyph);
+    } else {
+      throw new IllegalArgumentException("Glyph of type " + glyph.getClass() + " is not supported");
+    }
+    glyphIcon.setGlyphSize(size);
+    glyphIcon.setFill(fill);
+    double scale = getRenderScale();
+    SnapshotParameters parameters = new SnapshotParameters();
+    parameters.setFill(Color.TRANSPARENT);
+    parameters.setTransform(new Scale(scale, scale));
+    WritableImage snapshot = glyphIcon.snapshot(parameters, null);
+
+    int width = (int) snapshot.getWidth();
+    int height = (int) snapshot.getHeight();
+    if (width > PAGE_SIZE || height > PAGE_SIZE) {
+      throw new IllegalArgumentException("Glyph with size " + size + " doesn't fit into a page");
+    }
+    if (Objects.isNull(currentPage) || !currentPage.hasSpaceFor(width, height)) {
+      if (PAGES.size() >= MAX_PAGES) {
+        evictLeastRecentlyUsedPage();
+      }
+      LOGGER.debug("Starting a new icon atlas page");
+      currentPage = new Page();
+    }
+    PAGES.remove(currentPage);
+    PAGES.add(currentPage);
+    return new Entry(currentPage, currentPage.add(key, width, height, snapshot));
+  }
+
+  private static void evictLeastRecentlyUsedPage() {
+    Iterator<Page> iterator = PAGES.iterator();
+    Page page = iterator.next();
+    iterator.remove();
+    LOGGER.debug("Evicting icon atlas page with " + page.keys.size() + " icons");
+    // the pixels of the page are left untouched for image views which still display it
+    page.keys.forEach(ENTRIES::remove);
+  }
+
+  private static double detectRenderScale() {
+    try {
+      // only available since JavaFX 9
+      Method getOutputScaleX = Screen.class.getMethod("getOutputScaleX");
+      return (double) getOutputScaleX.invoke(Screen.getPrimary());
+    } catch (ReflectiveOperationException e) {
+      LOGGER.trace("Output scale of the screen is not available, using a render scale of 1");
+      return 1;
+    }
+  }
+
+  private static void assertFxThread() {
+    if (!Platform.isFxApplicationThread()) {
+      throw new IllegalStateException("Icons can only be rasterized on the FX Application Thread");
+    }
+  }
+
+  /**
+   * Area of an atlas page which contains a rasterized icon.
+   */
+  private static final class Entry {
+    private final Page page;
+    private final Rectangle2D viewport;
+
+    Entry(Page page, Rectangle2D viewport) {
+      this.page = page;
+      this.viewport = viewport;
+    }
+  }
+
+  /**
+   * Atlas page, which gets filled with icons row by row.
+   */
+  private static final class Page {
+    private final WritableImage image = new WritableImage(PAGE_SIZE, PAGE_SIZE);
+    private final List<IconKey> keys = new ArrayList<>();
+
+    // position of the next free slot
+    private int rowX;
+    private int rowY;
+    private int rowHeight;
+
+    boolean hasSpaceFor(int width, int height) {
+      if (rowX + width <= PAGE_SIZE) {
+        return rowY + height <= PAGE_SIZE;
+      }
+      return rowY + rowHeight + PADDING + height <= PAGE_SIZE;
+    }
+
+    Rectangle2D add(IconKey key, int width, int height, Image snapshot) {
+      if (rowX + width > PAGE_SIZE) {
+        // start a new row
+        rowX = 0;
+        rowY += rowHeight + PADDING;
+        rowHeight = 0;
+      }
+      image.getPixelWriter().setPixels(rowX, rowY, width, height, snapshot.getPixelReader(), 0, 0);
+      Rectangle2D viewport = new Rectangle2D(rowX, rowY, width, height);
+      rowX += width + PADDING;
+      rowHeight = Math.max(rowHeight, height);
+      keys.add(key);
+      return viewport;
+    }
+  }
+
+  /**
+   * Identifies a rasterized icon by its glyph, size and fill.
+   */
+  private static final class IconKey {
+    private final String fontFamily;
+    private final String glyphName;
+    private final double size;
+    private final Paint fill;
+
+    IconKey(GlyphIcons glyph, double size, Paint fill) {
+      fontFamily = glyph.getFontFamily();
+      glyphName = glyph.name();
+      this.size = size;
+      this.fill = fill;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (o == null || getClass() != o.getClass()) {
+        return false;
+      }
+      IconKey iconKey = (IconKey) o;
+      return Double.compare(iconKey.size, size) == 0
+          && fontFamily.equals(iconKey.fontFamily)
+          && glyphName.equals(iconKey.glyphName)
+          && fill.equals(iconKey.fill);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(fontFamily, glyphName, size, fill);
+    }
+  }
+}
@@ -0,0 +1,204 @@
+package com.dlsc.workbenchfx.util;
+
+import com.dlsc.workbenchfx.Workbench;
+import com.dlsc.workbenchfx.model.WorkbenchNotification;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.OptionalLong;
+import javafx.animation.PauseTransition;
+import javafx.application.Platform;
+import javafx.util.Duration;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Decides when the notifications which are requested to be shown in a {@link Workbench} actually
+ * get shown and when they get hidden again. At most {@link Workbench#getMaxNotificationsShown()}
+ * notifications are shown at the same time, any further notifications wait in a queue. A
+ * notification with the same message as a notification which is being shown or waiting to be
+ * shown is merged into it, increasing its {@link WorkbenchNotification#occurrencesProperty()}.
+ * Notifications are hidden after {@link Workbench#getNotificationDuration()}, which restarts
+ * whenever another notification is merged into them.
+ *
+ * <p>Notifications may be scheduled from any thread. Messages which are scheduled outside of the
+ * JavaFX Application Thread are already merged while they are collected and are handed over to it
+ * all at once, so a burst of messages causes only one update of the UI.
+ *
+ * @author François Martin
+ * @author Marco Sanfratello
+ */
+public final class NotificationScheduler {
+
+  private static final Logger LOGGER =
+      LoggerFactory.getLogger(NotificationScheduler.class.getName());
+
+  // expiry of notifications which are never hidden automatically
+  private static final long NEVER = Long.MAX_VALUE;
+
+  private final Workbench workbench;
+  private final List<WorkbenchNotification> notificationsShown;
+
+  // only accessed on the JavaFX Application Thread
+  private final Deque<WorkbenchNotification> queue = new ArrayDeque<>();
+  private final Map<String, WorkbenchNotification> notificationsByMessage = new HashMap<>();
+  // point in time at which the notifications being shown should be hidden, in nanoseconds
+  private final Map<WorkbenchNotification, Long> expiries = new HashMap<>();
+  private final PauseTransition expiryTimer = new PauseTransition();
+
+  // messages which were scheduled outside of the JavaFX Application Thread, with their amount
+  private final Map<String, Integer> pending = new LinkedHashMap<>();
+  private boolean drainScheduled = false;
+
+  /**
+   * Creates a scheduler for the notifications of a {@code workbench}.
+   *
+   * @param workbench          which defines how notifications should be scheduled
+   * @param notificationsShown list of the notifications which are being shown in the view
+   */
+  public NotificationScheduler(Workbench workbench,
+                               List<WorkbenchNotification> notificationsShown) {
+    this.workbench = workbench;
+    this.notificationsShown = notificationsShown;
+    expiryTimer.setOnFinished(event -> expire());
+  }
+
+  /**
+   * Requests a notification with the {@code message} to be shown.
+   *
+   * @param message to be shown
+   */
+  public void schedule(String message) {
+    Objects.requireNonNull(message);
+    if (!Platform.isFxApplicationThread()) {
+      synchronized (pending) {
+        pending.merge(message, 1, Integer::sum);
+        if (!drainScheduled) {
+          drainScheduled = true;
+          Platform.runLater(this::drainPending);
+        }
+      }
+      return;
+    }
+    enqueue(message, 1);
+    update();
+  }
+
+  /**
+   * Hides the {@code notification} or removes it from the queue, if it is not being shown yet.
+   *
+   * @param notification to be hidden
+   */
+  public void hide(WorkbenchNotification notification) {
+    notificationsByMessage.remove(notification.getMessage(), notification);
+    expiries.remove(notification);
+    if (!notificationsShown.remove(notification)) {
+      queue.remove(notification);
+    }
+    update();
+  }
+
+  /**
+   * Shows as many notifications of the queue as the limit currently allows.
+   */
+  public void update() {
+    while (!queue.isEmpty() && notificationsShown.size() < workbench.getMaxNotificationsShown()) {
+      WorkbenchNotification notification = queue.poll();
+      expiries.put(notification, expiryOf(System.nanoTime()));
+      notificationsShown.add(notification);
+    }
+    scheduleExpiry();
+  }
+
+  /**
+   * Discards all notifications which are being shown or waiting to be shown.
+   */
+  public void clear() {
+    LOGGER.trace("Clearing notifications");
+    expiryTimer.stop();
+    queue.clear();
+    notificationsByMessage.clear();
+    expiries.clear();
+    notificationsShown.clear();
+  }
+
+  /**
+   * Returns the amount of notifications which are waiting to be shown.
+   *
+   * @return the size of the queue
+   */
+  public int getQueueSize() {
+    return queue.size();
+  }
+
+  private void drainPending() {
+    Map<String, Integer> messages;
+    synchronized (pending) {
+      messages = new LinkedHashMap<>(pending);
+      pending.clear();
+      drainScheduled = false;
+    }
+    LOGGER.trace("Scheduling " + messages.size() + " notifications");
+    messages.forEach(this::enqueue);
+    update();
+  }
+
+  private void enqueue(String message, int occurrences) {
+    WorkbenchNotification identical = notificationsByMessage.get(message);
+    if (!Objects.isNull(identical)) {
+      identical.setOccurrences(identical.getOccurrences() + occurrences);
+      if (expiries.containsKey(identical)) {
+        // keep the notification being shown longer
+        expiries.put(identical, expiryOf(System.nanoTime()));
+      }
+      return;
+    }
+    WorkbenchNotification notification = new WorkbenchNotification(message);
+    notification.setOccurrences(occurrences);
+    notificationsByMessage.put(message, notification);
+    queue.add(notification);
+  }
+
+  private void expire() {
+    long now = System.nanoTime();
+    Iterator<Map.Entry<WorkbenchNotification, Long>> iterator = expiries.entrySet().iterator();
+    while (iterator.hasNext()) {
+      Map.Entry<WorkbenchNotification, Long> entry = iterator.next();
+      if (entry.getValue() != NEVER && entry.getValue() - now <= 0) {
+        WorkbenchNotification notification = entry.getKey();
+        iterator.remove();
+        notificationsByMessage.remove(notification.getMessage(), notification);
+        notificationsShown.remove(notification);
+      }
+    }
+    update();
+  }
+
+  private void scheduleExpiry() {
+    expiryTimer.stop();
+    long now = System.nanoTime();
+    OptionalLong remaining = expiries.values().stream()
+        .filter(expiry -> expiry != NEVER)
+        .mapToLong(expiry -> expiry - now)
+        .min();
+    if (remaining.isPresent()) {
+      // hide the next notification as soon as it expires
+      expiryTimer.setDuration(Duration.millis(Math.max(0, remaining.getAsLong()) / 1_000_000d));
+      expiryTimer.playFromStart();
+    }
+  }
+
+  private long expiryOf(long now) {
+    Duration duration = workbench.getNotificationDuration();
+    if (Objects.isNull(duration) || duration.isIndefinite() || duration.isUnknown()) {
+      // never hide the notification automatically
+      return NEVER;
+    }
+    return now + (long) (duration.toMillis() * 1_000_000);
+  }
+}
@@ -0,0 +1,116 @@
+package com.dlsc.workbenchfx.util;
+
+import com.dlsc.workbenchfx.Workbench;
+import java.util.Locale;
+import java.util.Objects;
+import javafx.application.ConditionalFeature;
+import javafx.application.Platform;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Defines how much rendering effort is spent on animations and visual effects of a
+ * {@link Workbench}. Reducing it keeps the workbench responsive when it is being rendered in
+ * software or over a remote desktop connection, where every animated frame is expensive.
+ *
+ * @author François Martin
+ * @author Marco Sanfratello
+ */
+public enum RenderProfile {
+
+  /**
+   * Plays all animations with their full duration and renders all effects.
+   */
+  FULL(1, true, true),
+
+  /**
+   * Plays all animations with half of their duration and skips drop shadows.
+   */
+  REDUCED(.5, true, false),
+
+  /**
+   * Skips all animations, drop shadows and the translucent darkening of the glass pane.
+   */
+  MINIMAL(0, false, false);
+
+  /**
+   * Name of the system property, which can be set to the name of a {@link RenderProfile} to
+   * override the profile returned by {@link #detect()}.
+   */
+  public static final String SYSTEM_PROPERTY = "workbenchfx.renderProfile";
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(RenderProfile.class.getName());
+
+  // Windows sets the name of sessions over the Remote Desktop Protocol to "RDP-Tcp#<number>"
+  private static final String REMOTE_SESSION_PREFIX = "RDP-";
+
+  private final double timeScale;
+  private final boolean translucent;
+  private final boolean effects;
+
+  RenderProfile(double timeScale, boolean translucent, boolean effects) {
+    this.timeScale = timeScale;
+    this.translucent = translucent;
+    this.effects = effects;
+  }
+
+  /**
+   * Returns by how much animations are scaled in time, where {@code 0} turns them off.
+   *
+   * @return the time scale of animations, see {@link Animations#timeScaleProperty()}
+   */
+  public double getTimeScale() {
+    return timeScale;
+  }
+
+  /**
+   * Returns whether translucent layers are blended over the view, like the darkening of the
+   * {@link com.dlsc.workbenchfx.view.controls.GlassPane}.
+   *
+   * @return true if translucent layers are rendered
+   */
+  public boolean isTranslucent() {
+    return translucent;
+  }
+
+  /**
+   * Returns whether effects, like drop shadows, are rendered.
+   *
+   * @return true if effects are rendered
+   */
+  public boolean hasEffects() {
+    return effects;
+  }
+
+  /**
+   * Detects which profile suits the environment the application is running in.
+   * Returns the profile defined in the system property {@link #SYSTEM_PROPERTY} if it is set,
+   * {@link #MINIMAL} in a remote desktop session, {@link #REDUCED} if JavaFX is using the software
+   * rendering pipeline and {@link #FULL} otherwise.
+   *
+   * @return the detected profile
+   * @implNote The software pipeline is detected by the lack of support for
+   *           {@link ConditionalFeature#SCENE3D}, which is only available with hardware
+   *           acceleration. Remote desktop sessions are only detected on Windows.
+   */
+  public static RenderProfile detect() {
+    String property = System.getProperty(SYSTEM_PROPERTY);
+    if (!Objects.isNull(property)) {
+      try {
+        return valueOf(property.trim().toUpperCase(Locale.ROOT));
+      } catch (IllegalArgumentException e) {
+        LOGGER.warn("Unknown render profile: " + property);
+      }
+    }
+    String sessionName = System.getenv("SESSIONNAME");
+    if (!Objects.isNull(sessionName) && sessionName.startsWith(REMOTE_SESSION_PREFIX)) {
+      LOGGER.trace("Detected remote desktop session");
+      return MINIMAL;
+    }
+    if (!Platform.isSupported(ConditionalFeature.SCENE3D)) {
+      LOGGER.trace("Detected software rendering pipeline");
+      return REDUCED;
+    }
+    return FULL;
+  }
+}
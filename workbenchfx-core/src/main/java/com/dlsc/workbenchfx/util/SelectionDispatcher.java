@@ -0,0 +1,122 @@
+package com.dlsc.workbenchfx.util;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.function.Consumer;
+import javafx.beans.value.ObservableValue;
+
+/**
+ * Notifies the listeners which are registered for an item whenever this item becomes selected or
+ * unselected. Only the listeners of the previously and the newly selected item get notified on a
+ * change of the selection, instead of each listener having to check every change on its own.
+ *
+ * <p>There is only one dispatcher per selection, which can be retrieved using
+ * {@link #of(ObservableValue)}. Listeners are only referenced weakly by the dispatcher, so they
+ * need to be referenced by their owner for as long as they should be notified. Since the
+ * dispatcher lives as long as its selection, an item is forgotten once all of its listeners have
+ * been unregistered, or once it gets selected or unselected after all of its listeners have been
+ * garbage collected.
+ *
+ * @param <T> type of the selected items
+ * @author François Martin
+ * @author Marco Sanfratello
+ */
+public final class SelectionDispatcher<T> {
+
+  private static final Map<ObservableValue<?>, SelectionDispatcher<?>> DISPATCHERS =
+      new WeakHashMap<>();
+
+  private final Map<T, Set<Consumer<Boolean>>> listeners = new HashMap<>();
+  private T selectedItem;
+
+  private SelectionDispatcher(ObservableValue<T> selection) {
+    selectedItem = selection.getValue();
+    selection.addListener((observable, oldItem, newItem) -> {
+      selectedItem = newItem;
+      dispatch(oldItem, false);
+      dispatch(newItem, true);
+    });
+  }
+
+  /**
+   * Returns the dispatcher of a selection, creating it if there is none yet.
+   *
+   * @param selection which contains the currently selected item
+   * @param <T> type of the selected items
+   * @return the dispatcher of the selection
+   */
+  @SuppressWarnings("unchecked")
+  public static <T> SelectionDispatcher<T> of(ObservableValue<T> selection) {
+    Objects.requireNonNull(selection);
+    return (SelectionDispatcher<T>)
+        DISPATCHERS.computeIfAbsent(selection, key -> new SelectionDispatcher<>(selection));
+  }
+
+  /**
+   * Registers a listener, which gets called with {@code true} when the item becomes selected and
+   * with {@code false} when it becomes unselected.
+   *
+   * @param item to listen to
+   * @param listener to be called when the selection state of the item changes
+   */
+  public void register(T item, Consumer<Boolean> listener) {
+    listeners.computeIfAbsent(item, key -> Collections.newSetFromMap(new WeakHashMap<>()))
+        .add(listener);
+  }
+
+  /**
+   * Removes a listener of an item, which was registered using {@link #register(Object, Consumer)}.
+   *
+   * @param item the listener was registered for
+   * @param listener to be removed
+   */
+  public void unregister(T item, Consumer<Boolean> listener) {
+    Set<Consumer<Boolean>> itemListeners = listeners.get(item);
+    if (!Objects.isNull(itemListeners)) {
+      itemListeners.remove(listener);
+      if (itemListeners.isEmpty()) {
+        listeners.remove(item);
+      }
+    }
+  }
+
+  /**
+   * Returns whether an item is the currently selected item.
+   *
+   * @param item to be checked
+   * @return true if the item is selected
+   */
+  public boolean isSelected(T item) {
+    return Objects.equals(selectedItem, item);
+  }
+
+  /**
+   * Returns the amount of items which have any listeners registered.
+   *
+   * @return the amount of items with listeners
+   */
+  int getItemCount() {
+    return listeners.size();
+  }
+
+  private void dispatch(T item, boolean selected) {
+    Set<Consumer<Boolean>> itemListeners = listeners.get(item);
+    if (Objects.isNull(itemListeners)) {
+      return;
+    }
+    if (itemListeners.isEmpty()) {
+      // all listeners of the item have been garbage collected
+      listeners.remove(item);
+      return;
+    }
+    // listeners may unregister themselves while being notified
+    for (Consumer<Boolean> listener : new ArrayList<>(itemListeners)) {
+      listener.accept(selected);
+    }
+  }
+}
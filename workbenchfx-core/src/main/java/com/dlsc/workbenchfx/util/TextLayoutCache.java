@@ -0,0 +1,129 @@
+package com.dlsc.workbenchfx.util;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.DoubleSupplier;
+import javafx.scene.control.Labeled;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Caches the preferred heights of labels with wrapped text, so labels which show the same text
+ * with the same font, width and styling don't need to lay out the text again on every layout pass.
+ *
+ * <p>A cached height has been computed by the skin of the first label with the same combination,
+ * so it is exactly what the skin of any other label with that combination would compute.
+ *
+ * @author François Martin
+ * @author Marco Sanfratello
+ */
+public final class TextLayoutCache {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(TextLayoutCache.class.getName());
+
+  /**
+   * Maximum amount of measurements to be kept in the cache, before the least recently used ones
+   * get evicted.
+   */
+  public static final int MAXIMUM_SIZE = 1024;
+
+  private static final Cache<LayoutKey, Double> CACHE =
+      CacheBuilder.newBuilder().maximumSize(MAXIMUM_SIZE).build();
+
+  /**
+   * Utility class should not be possible to be instantiated.
+   */
+  private TextLayoutCache() {
+
+  }
+
+  /**
+   * Returns the preferred height of a {@code labeled} at the given width, only calling
+   * {@code measure} if the same combination of the properties which affect the height isn't
+   * cached yet.
+   *
+   * @param labeled whose height should be computed
+   * @param width at which the height should be computed
+   * @param measure computes the preferred height in the skin, if it isn't cached yet
+   * @return the preferred height of the {@code labeled}
+   * @implNote The height is only cached for labels with wrapped text and without a graphic, whose
+   *           size could change independently of the label. The key contains all properties the
+   *           skin uses to compute the height, as well as those which only change how the text is
+   *           drawn, like the text alignment, overrun and underline.
+   */
+  public static double computePrefHeight(Labeled labeled, double width, DoubleSupplier measure) {
+    if (width < 0 || !labeled.isWrapText() || !Objects.isNull(labeled.getGraphic())
+        || Objects.isNull(labeled.getSkin())) {
+      return measure.getAsDouble();
+    }
+    LayoutKey key = new LayoutKey(labeled, width);
+    Double height = CACHE.getIfPresent(key);
+    if (Objects.isNull(height)) {
+      height = measure.getAsDouble();
+      CACHE.put(key, height);
+    }
+    return height;
+  }
+
+  /**
+   * Returns the amount of measurements which are currently being cached.
+   *
+   * @return the size of the cache
+   */
+  public static long size() {
+    return CACHE.size();
+  }
+
+  /**
+   * Removes all measurements from the cache.
+   */
+  public static void clear() {
+    LOGGER.trace("Clearing text layout cache");
+    CACHE.invalidateAll();
+  }
+
+  /**
+   * Identifies a measurement by the width and all properties of a label which may affect its
+   * preferred height.
+   */
+  private static final class LayoutKey {
+    private final List<Object> properties;
+
+    LayoutKey(Labeled labeled, double width) {
+      String text = labeled.getText();
+      properties = Arrays.asList(
+          Objects.isNull(text) ? "" : text,
+          labeled.getFont(),
+          width,
+          labeled.getLineSpacing(),
+          labeled.getContentDisplay(),
+          labeled.getLabelPadding(),
+          labeled.getInsets(),
+          labeled.isSnapToPixel(),
+          labeled.getTextAlignment(),
+          labeled.getTextOverrun(),
+          labeled.isUnderline(),
+          labeled.getSkin().getClass()
+      );
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (o == null || getClass() != o.getClass()) {
+        return false;
+      }
+      return properties.equals(((LayoutKey) o).properties);
+    }
+
+    @Override
+    public int hashCode() {
+      return properties.hashCode();
+    }
+  }
+}
@@ -0,0 +1,115 @@
+package com.dlsc.workbenchfx.util;
+
+import com.dlsc.workbenchfx.model.WorkbenchModule;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import java.util.Objects;
+import javafx.application.Platform;
+import javafx.scene.Node;
+import javafx.scene.SnapshotParameters;
+import javafx.scene.image.Image;
+import javafx.scene.image.WritableImage;
+import javafx.scene.paint.Color;
+import javafx.scene.transform.Transform;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Keeps scaled down snapshots of the views of {@link WorkbenchModule}s, which are used to preview
+ * the last shown state of a module without having to show its view.
+ *
+ * @author François Martin
+ * @author Marco Sanfratello
+ */
+public final class ThumbnailCache {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(ThumbnailCache.class.getName());
+
+  /**
+   * Maximum amount of thumbnails to be kept in the cache, before the least recently used ones get
+   * evicted.
+   */
+  public static final int MAXIMUM_SIZE = 32;
+
+  /**
+   * Maximum width of a thumbnail, larger views get scaled down to this width.
+   */
+  public static final double THUMBNAIL_WIDTH = 240;
+
+  // modules are only referenced weakly, so thumbnails of modules which are gone get evicted
+  private static final Cache<WorkbenchModule, Image> CACHE =
+      CacheBuilder.newBuilder().weakKeys().maximumSize(MAXIMUM_SIZE).build();
+
+  /**
+   * Utility class should not be possible to be instantiated.
+   */
+  private ThumbnailCache() {
+
+  }
+
+  /**
+   * Takes a snapshot of the {@code view} of a {@code module} and keeps it as its thumbnail,
+   * replacing any previous thumbnail of the {@code module}.
+   *
+   * @param module to which the view belongs
+   * @param view of which the snapshot should be taken, needs to be part of a scene
+   * @throws IllegalStateException if not called on the JavaFX Application Thread
+   */
+  public static void capture(WorkbenchModule module, Node view) {
+    if (!Platform.isFxApplicationThread()) {
+      throw new IllegalStateException("Snapshots can only be taken on the FX Application Thread");
+    }
+    Objects.requireNonNull(module);
+    double width = view.getLayoutBounds().getWidth();
+    if (Objects.isNull(view.getScene()) || width <= 0 || view.getLayoutBounds().getHeight() <= 0) {
+      // there is nothing rendered which could be captured
+      CACHE.invalidate(module);
+      return;
+    }
+    LOGGER.trace("Taking thumbnail of the view of " + module);
+    double scale = Math.min(1, THUMBNAIL_WIDTH / width);
+    SnapshotParameters parameters = new SnapshotParameters();
+    parameters.setFill(Color.TRANSPARENT);
+    parameters.setTransform(Transform.scale(scale, scale));
+    WritableImage thumbnail = view.snapshot(parameters, null);
+    CACHE.put(module, thumbnail);
+  }
+
+  /**
+   * Returns the thumbnail of a {@code module}.
+   *
+   * @param module of which the thumbnail should be returned
+   * @return the thumbnail or null, if there is none
+   */
+  public static Image get(WorkbenchModule module) {
+    return Objects.isNull(module) ? null : CACHE.getIfPresent(module);
+  }
+
+  /**
+   * Removes the thumbnail of a {@code module}.
+   *
+   * @param module of which the thumbnail should be removed
+   */
+  public static void invalidate(WorkbenchModule module) {
+    if (!Objects.isNull(module)) {
+      CACHE.invalidate(module);
+    }
+  }
+
+  /**
+   * Returns the amount of thumbnails which are currently being cached.
+   *
+   * @return the size of the cache
+   */
+  public static long size() {
+    return CACHE.size();
+  }
+
+  /**
+   * Removes all thumbnails from the cache.
+   */
+  public static void clear() {
+    LOGGER.trace("Clearing thumbnail cache");
+    CACHE.invalidateAll();
+  }
+}
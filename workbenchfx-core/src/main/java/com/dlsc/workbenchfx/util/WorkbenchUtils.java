@@ -1,7 +1,13 @@
 package com.dlsc.workbenchfx.util;
 
 import com.google.common.base.CharMatcher;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.function.Consumer;
+import javafx.collections.FXCollections;
 import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import javafx.scene.Node;
@@ -85,6 +91,17 @@ public final class WorkbenchUtils {
         .toLowerCase();
   }
 
+  /**
+   * Formats how many times an identical dialog or notification has been requested, like
+   * "&times;3".
+   *
+   * @param occurrences of the dialog or notification
+   * @return the formatted occurrences
+   */
+  public static String formatOccurrences(int occurrences) {
+    return "\u00D7" + occurrences;
+  }
+
   /**
    * Calculates from the amount of modules per page how many columns of modules there should be
    * in a row.
@@ -95,4 +112,68 @@ public final class WorkbenchUtils {
   public static int calculateColumnsPerRow(int modulesPerPage) {
     return modulesPerPage <= 3 ? modulesPerPage : (int) Math.ceil(Math.sqrt(modulesPerPage));
   }
+
+  /**
+   * Calculates how many modules fit on a page, so that the tiles arranged according to
+   * {@link #calculateColumnsPerRow(int)} don't need more columns or rows than there is space for.
+   *
+   * @param maxColumns maximum amount of columns of tiles which fit next to each other
+   * @param maxRows maximum amount of rows of tiles which fit below each other
+   * @return the amount of modules per page, at least 1
+   */
+  public static int calculateModulesPerPage(int maxColumns, int maxRows) {
+    for (int modulesPerPage = maxColumns * maxRows; modulesPerPage > 1; modulesPerPage--) {
+      int columns = calculateColumnsPerRow(modulesPerPage);
+      int rows = (int) Math.ceil((double) modulesPerPage / columns);
+      if (columns <= maxColumns && rows <= maxRows) {
+        return modulesPerPage;
+      }
+    }
+    return 1;
+  }
+
+  /**
+   * Calculates how many tiles fit next to each other in the available space.
+   *
+   * @param availableSpace width or height of the space in which the tiles are laid out
+   * @param tileSize width or height of a tile
+   * @param gap between two tiles
+   * @return the amount of tiles which fit, at least 1
+   */
+  public static int calculateTilesFitting(double availableSpace, double tileSize, double gap) {
+    if (tileSize <= 0) {
+      return 1;
+    }
+    return Math.max(1, (int) ((availableSpace + gap) / (tileSize + gap)));
+  }
+
+  /**
+   * Moves an {@code item} of a {@code list} to a new position, by applying the new order as a
+   * permutation. Listeners of the {@code list} therefore get notified about a permutation instead
+   * of the removal and addition of the item, which allows them to move existing representations
+   * of the items instead of recreating them.
+   *
+   * @param list which contains the {@code item}, the items of the list need to be unique
+   * @param item to be moved
+   * @param index the new position of the {@code item}, will be clamped to the size of the list
+   * @param <T> type of the {@link ObservableList}
+   * @throws IllegalArgumentException if the {@code item} is not contained in the {@code list}
+   */
+  public static <T> void moveItem(ObservableList<T> list, T item, int index) {
+    int oldIndex = list.indexOf(item);
+    if (oldIndex == -1) {
+      throw new IllegalArgumentException("Item is not contained in the list.");
+    }
+    int newIndex = Math.max(0, Math.min(index, list.size() - 1));
+    if (oldIndex == newIndex) {
+      return;
+    }
+    List<T> order = new ArrayList<>(list);
+    order.add(newIndex, order.remove(oldIndex));
+    Map<T, Integer> positions = new HashMap<>();
+    for (int i = 0; i < order.size(); i++) {
+      positions.put(order.get(i), i);
+    }
+    FXCollections.sort(list, Comparator.comparingInt(positions::get));
+  }
 }
@@ -1,8 +1,19 @@
 package com.dlsc.workbenchfx.view;
 
 import com.dlsc.workbenchfx.Workbench;
+import com.dlsc.workbenchfx.util.WorkbenchUtils;
 import com.dlsc.workbenchfx.view.controls.module.Page;
+import com.dlsc.workbenchfx.view.controls.module.Tile;
+import java.util.Objects;
+import javafx.animation.PauseTransition;
+import javafx.beans.InvalidationListener;
+import javafx.beans.Observable;
 import javafx.css.PseudoClass;
+import javafx.geometry.Insets;
+import javafx.scene.Node;
+import javafx.scene.Parent;
+import javafx.scene.layout.GridPane;
+import javafx.util.Duration;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -19,9 +30,18 @@ public final class AddModulePresenter extends Presenter {
 
   private static final PseudoClass ONE_PAGE_STATE = PseudoClass.getPseudoClass("one-page");
 
+  /**
+   * Time the size of the view needs to stay the same, before the modules per page get adapted.
+   */
+  private static final Duration RESIZE_DEBOUNCE_DURATION = Duration.millis(150);
+  private static final String PAGINATION_CONTROL_SELECTOR = ".pagination-control";
+
   private final Workbench model;
   private final AddModuleView view;
 
+  private final PauseTransition resizeDebounce = new PauseTransition(RESIZE_DEBOUNCE_DURATION);
+  private Page currentPage;
+
   /**
    * Creates a new {@link AddModulePresenter} object for a corresponding {@link AddModuleView}.
    *
@@ -44,6 +64,10 @@ public final class AddModulePresenter extends Presenter {
     view.setPageFactory(pageIndex -> {
       Page page = model.getPageFactory().call(model);
       page.setPageIndex(pageIndex);
+      if (!Objects.isNull(currentPage)) {
+        disposeWhenRemoved(currentPage);
+      }
+      currentPage = page;
       return page;
     });
     view.setMaxPageIndicatorCount(Integer.MAX_VALUE);
@@ -54,7 +78,7 @@ public final class AddModulePresenter extends Presenter {
    */
   @Override
   public final void setupEventHandlers() {
-
+    resizeDebounce.setOnFinished(event -> updateModulesPerPage());
   }
 
   /**
@@ -64,6 +88,16 @@ public final class AddModulePresenter extends Presenter {
   public final void setupValueChangedListeners() {
     model.amountOfPagesProperty().addListener(
         (observable, oldPageCount, newPageCount) -> updatePageCount(newPageCount.intValue()));
+
+    // only adapt the modules per page once resizing has come to a halt
+    InvalidationListener sizeChangedListener = observable -> {
+      if (model.isAdaptiveModulesPerPage()) {
+        resizeDebounce.playFromStart();
+      }
+    };
+    view.widthProperty().addListener(sizeChangedListener);
+    view.heightProperty().addListener(sizeChangedListener);
+    model.adaptiveModulesPerPageProperty().addListener(sizeChangedListener);
   }
 
   /**
@@ -74,6 +108,74 @@ public final class AddModulePresenter extends Presenter {
 
   }
 
+  /**
+   * Calculates how many tiles fit into the view, based on the size of the tiles of the currently
+   * shown page and the gaps between them, and updates the modules per page accordingly.
+   */
+  void updateModulesPerPage() {
+    if (Objects.isNull(currentPage) || currentPage.getTiles().isEmpty()) {
+      LOGGER.trace("No tiles to measure - skipping update of modules per page");
+      return;
+    }
+    Tile tile = currentPage.getTiles().get(0);
+    Parent tilePane = tile.getParent();
+    if (!(tilePane instanceof GridPane)) {
+      LOGGER.trace("Page is not laid out in a GridPane - skipping update of modules per page");
+      return;
+    }
+    GridPane gridPane = (GridPane) tilePane;
+    Insets viewInsets = view.getInsets();
+    Insets gridInsets = gridPane.getInsets();
+    double availableWidth = view.getWidth()
+        - viewInsets.getLeft() - viewInsets.getRight()
+        - gridInsets.getLeft() - gridInsets.getRight();
+    double availableHeight = view.getHeight()
+        - viewInsets.getTop() - viewInsets.getBottom()
+        - gridInsets.getTop() - gridInsets.getBottom()
+        - getPaginationControlHeight();
+    int maxColumns = WorkbenchUtils.calculateTilesFitting(
+        availableWidth, tile.prefWidth(-1), gridPane.getHgap());
+    int maxRows = WorkbenchUtils.calculateTilesFitting(
+        availableHeight, tile.prefHeight(-1), gridPane.getVgap());
+    int modulesPerPage = WorkbenchUtils.calculateModulesPerPage(maxColumns, maxRows);
+    LOGGER.trace(String.format("Adapting modules per page to %s (%s columns, %s rows)",
+        modulesPerPage, maxColumns, maxRows));
+    model.setModulesPerPage(modulesPerPage);
+  }
+
+  /**
+   * Returns the height of the page indicator below the pages. It is only made transparent if
+   * there is just one page, so it always takes up space.
+   */
+  private double getPaginationControlHeight() {
+    Node paginationControl = view.lookup(PAGINATION_CONTROL_SELECTOR);
+    return Objects.isNull(paginationControl) ? 0 : paginationControl.prefHeight(-1);
+  }
+
+  /**
+   * Disposes a {@code page} which has been replaced by a new page, as soon as it is no longer
+   * shown. While animating to the new page, the pagination still shows the replaced page.
+   */
+  private void disposeWhenRemoved(Page page) {
+    if (Objects.isNull(page.getScene())) {
+      page.dispose();
+      return;
+    }
+    page.sceneProperty().addListener(new InvalidationListener() {
+      @Override
+      public void invalidated(Observable observable) {
+        if (Objects.isNull(page.getScene())) {
+          page.sceneProperty().removeListener(this);
+          page.dispose();
+        }
+      }
+    });
+  }
+
+  PauseTransition getResizeDebounce() {
+    return resizeDebounce;
+  }
+
   private void updatePageCount(int amountOfPages) {
     view.setPageCount(amountOfPages);
     view.pseudoClassStateChanged(ONE_PAGE_STATE, amountOfPages == 1);
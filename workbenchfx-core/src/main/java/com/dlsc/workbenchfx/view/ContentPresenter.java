@@ -2,6 +2,7 @@ package com.dlsc.workbenchfx.view;
 
 import com.dlsc.workbenchfx.Workbench;
 import com.dlsc.workbenchfx.model.WorkbenchModule;
+import com.dlsc.workbenchfx.util.ThumbnailCache;
 import com.dlsc.workbenchfx.util.WorkbenchUtils;
 import java.util.Objects;
 import javafx.collections.FXCollections;
@@ -66,6 +67,10 @@ public final class ContentPresenter extends Presenter {
   public final void setupValueChangedListeners() {
     model.activeModuleProperty().addListener((observable, oldModule, newModule) -> {
       view.showToolbar(false); // Remove toolbar
+      if (!Objects.isNull(oldModule) && model.isTabPreviews()) {
+        // keep the last shown state of the module, to preview it when hovering over its tab
+        ThumbnailCache.capture(oldModule, view.activeView);
+      }
       view.hideActiveView();
 
       if (Objects.isNull(newModule)) {
@@ -114,6 +119,7 @@ public final class ContentPresenter extends Presenter {
         LOGGER.trace("Remove from scene graph view of module: " + model.getActiveModule());
         view.removeView(openModuleViews.get(module));
         openModuleViews.remove(module);
+        ThumbnailCache.invalidate(module);
       });
   }
 
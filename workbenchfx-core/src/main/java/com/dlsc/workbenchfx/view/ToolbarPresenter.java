@@ -66,6 +66,8 @@ public final class ToolbarPresenter extends Presenter {
   @Override
   public final void initializeViewParts() {
     view.tabBar.setCellFactory(tab -> new TabCell());
+    view.tabBar.setReorderable(true);
+    view.tabBar.setReorderHandler(model::moveModule);
     view.tabBar.getStylesheets().add(
         Workbench.class.getResource("css/selection-strip.css").toExternalForm()
     );
@@ -153,8 +155,11 @@ public final class ToolbarPresenter extends Presenter {
    */
   @Override
   public final void setupBindings() {
-    // Binds content of the SelectionStrip to the Workbench content
-    view.tabBar.itemsProperty().bindContent(openModules);
+    // Shows the open modules of the Workbench in the SelectionStrip, using the list directly so
+    // reordering the modules results in a permutation of the items instead of a new content
+    view.tabBar.setItems(openModules);
+    view.tabBar.virtualizedProperty().bind(model.virtualizedTabsProperty());
+    view.tabBar.renderProfileProperty().bind(model.renderProfileProperty());
 
     // Bind items from toolbar to the ones of the workbench
     view.toolbarControl.toolbarControlsLeftProperty().bindContent(toolbarControlsLeft);
@@ -2,8 +2,11 @@ package com.dlsc.workbenchfx.view;
 
 import com.dlsc.workbenchfx.Workbench;
 import com.dlsc.workbenchfx.model.WorkbenchDialog;
+import com.dlsc.workbenchfx.model.WorkbenchNotification;
 import com.dlsc.workbenchfx.model.WorkbenchOverlay;
+import com.dlsc.workbenchfx.util.Animations;
 import com.dlsc.workbenchfx.util.WorkbenchUtils;
+import com.dlsc.workbenchfx.view.controls.GlassPane;
 import com.dlsc.workbenchfx.view.controls.dialog.DialogControl;
 import java.util.Objects;
 import javafx.collections.MapChangeListener;
@@ -30,6 +33,7 @@ public final class WorkbenchPresenter extends Presenter {
   private final ObservableMap<Region, WorkbenchOverlay> overlays;
   private final ObservableList<Region> overlaysShown;
   private final ObservableList<Region> blockingOverlaysShown;
+  private final ObservableList<WorkbenchNotification> notificationsShown;
 
   /**
    * Constructs a new {@link WorkbenchPresenter} for the {@link WorkbenchView}.
@@ -43,6 +47,7 @@ public final class WorkbenchPresenter extends Presenter {
     this.overlays = model.getOverlays();
     this.overlaysShown = model.getNonBlockingOverlaysShown();
     this.blockingOverlaysShown = model.getBlockingOverlaysShown();
+    this.notificationsShown = model.getNotificationsShown();
 
     init();
   }
@@ -60,7 +65,7 @@ public final class WorkbenchPresenter extends Presenter {
    */
   @Override
   public final void setupEventHandlers() {
-
+    view.notificationLayer.setOnDismiss(model::hideNotification);
   }
 
   /**
@@ -90,86 +95,118 @@ public final class WorkbenchPresenter extends Presenter {
         change -> showOverlay(change, true),
         this::hideOverlay
     );
+
+    WorkbenchUtils.addListListener(
+        notificationsShown,
+        view::showNotification,
+        view::hideNotification
+    );
   }
 
   /**
-   * Adds an {@code overlay} together with the {@code glassPane} to the view.
+   * Adds an {@code overlay} to the view, together with the {@code glassPane} if it is the first.
    *
    * @param overlay to be added
    */
   private void addOverlay(WorkbenchOverlay overlay) {
     LOGGER.trace("addOverlay");
-    view.addOverlay(overlay.getOverlay(), overlay.getGlassPane());
+    GlassPane glassPane = overlay.getGlassPane();
+    view.addOverlay(overlay.getOverlay(), glassPane);
+    glassPane.setOnMouseClicked(event -> hideTopOverlay(glassPane));
   }
 
   /**
-   * Removes an {@code overlay} together with the {@code glassPane} from the view.
+   * Removes an {@code overlay} from the view, together with the {@code glassPane} if it was the
+   * last.
    *
    * @param overlay to be removed
    */
   private void removeOverlay(WorkbenchOverlay overlay) {
     LOGGER.trace("removeOverlay");
-    view.removeOverlay(overlay.getOverlay(), overlay.getGlassPane());
+    GlassPane glassPane = overlay.getGlassPane();
+    view.removeOverlay(overlay.getOverlay());
+    if (overlays.isEmpty()) {
+      view.removeGlassPane(glassPane);
+      // invalidate event handler
+      glassPane.setOnMouseClicked(null);
+    } else {
+      stackGlassPane(glassPane);
+    }
+  }
 
-    // invalidate previous event handler, if existent (when blocking)
-    overlay.getGlassPane().setOnMouseClicked(null);
+  /**
+   * Stacks the {@code glassPane} below the top-most overlay being shown.
+   *
+   * @param glassPane which is shared by all overlays
+   * @return the top-most overlay being shown or null, if there is none
+   */
+  private Region stackGlassPane(GlassPane glassPane) {
+    return view.stackGlassPane(glassPane, model::isOverlayShown);
   }
 
   /**
-   * Makes the {@code overlay} visible, along with its {@code glassPane}.
+   * Makes the {@code overlay} visible, along with the {@code glassPane}.
    *
    * @param overlay to be shown
-   * @param blocking if false, will make {@code overlay} hide, if its {@code glassPane} was clicked
+   * @param blocking if false, will make {@code overlay} hide, if the {@code glassPane} was clicked
    */
   private void showOverlay(Region overlay, boolean blocking) {
     showOverlay(model.getOverlays().get(overlay), blocking);
   }
 
   /**
-   * Makes the {@code overlay} visible, along with its {@code glassPane}.
+   * Makes the {@code overlay} visible, along with the {@code glassPane}.
    *
    * @param workbenchOverlay the {@code overlay}'s corresponding model object
-   * @param blocking if false, will make {@code overlay} hide, if its {@code glassPane} was clicked
+   * @param blocking if false, will make {@code overlay} hide, if the {@code glassPane} was clicked
    */
   private void showOverlay(WorkbenchOverlay workbenchOverlay, boolean blocking) {
     LOGGER.trace("showOverlay - Blocking: " + blocking);
     Region overlay = workbenchOverlay.getOverlay();
     if (workbenchOverlay.isAnimated()) {
       if (overlay.getWidth() != 0) {
-        workbenchOverlay.getAnimationStart().play();
+        // interrupt the overlay while sliding out, it slides back in from where it is
+        workbenchOverlay.getAnimationEnd().stop();
+        Animations.play(workbenchOverlay.getAnimationStart(),
+            model.getRenderProfile().getTimeScale());
       }
     }
     view.showOverlay(overlay);
+    stackGlassPane(workbenchOverlay.getGlassPane());
+  }
 
-    // if overlay is not blocking, make the overlay hide when the glass pane is clicked
-    if (!blocking) {
-      LOGGER.trace("showOverlay - Set GlassPane EventHandler");
-      workbenchOverlay.getGlassPane().setOnMouseClicked(event -> {
-        // check if overlay is really not blocking, is needed to avoid false-positives
-        if (overlaysShown.contains(overlay)) {
-
-          if (overlay == model.getDrawerShown()) {
-            // if the overlay is the drawer that is currently being shown
-            LOGGER.trace("GlassPane was clicked, hiding drawer");
-            model.hideDrawer();
-          } else if (overlay instanceof DialogControl) {
-            // if the overlay is a dialog
-            LOGGER.trace("GlassPane was clicked, hiding dialog");
-            WorkbenchDialog dialog = ((DialogControl) overlay).getDialog();
-            // send cancel button type as result of the dialog if available
-            ButtonType cancelButtonType = dialog.getDialogControl().getCancelButtonType();
-            // if not available, send the defined cancelDialogButtonType
-            if (Objects.isNull(cancelButtonType)) {
-              cancelButtonType = ButtonType.CANCEL;
-            }
-            dialog.getOnResult().accept(cancelButtonType);
-            model.hideDialog(dialog);
-          } else {
-            LOGGER.trace("GlassPane was clicked, hiding overlay");
-            model.hideOverlay(overlay);
-          }
-        }
-      });
+  /**
+   * Hides the top-most overlay being shown when the {@code glassPane} was clicked, if it is not
+   * blocking.
+   *
+   * @param glassPane which was clicked
+   */
+  private void hideTopOverlay(GlassPane glassPane) {
+    Region overlay = stackGlassPane(glassPane);
+    // check if overlay is really not blocking, is needed to avoid false-positives
+    if (Objects.isNull(overlay) || model.isOverlayBlocking(overlay)) {
+      return;
+    }
+
+    if (overlay == model.getDrawerShown()) {
+      // if the overlay is the drawer that is currently being shown
+      LOGGER.trace("GlassPane was clicked, hiding drawer");
+      model.hideDrawer();
+    } else if (overlay instanceof DialogControl) {
+      // if the overlay is a dialog
+      LOGGER.trace("GlassPane was clicked, hiding dialog");
+      WorkbenchDialog dialog = ((DialogControl) overlay).getDialog();
+      // send cancel button type as result of the dialog if available
+      ButtonType cancelButtonType = dialog.getDialogControl().getCancelButtonType();
+      // if not available, send the defined cancelDialogButtonType
+      if (Objects.isNull(cancelButtonType)) {
+        cancelButtonType = ButtonType.CANCEL;
+      }
+      dialog.getOnResult().accept(cancelButtonType);
+      model.hideDialog(dialog);
+    } else {
+      LOGGER.trace("GlassPane was clicked, hiding overlay");
+      model.hideOverlay(overlay);
     }
   }
 
@@ -189,13 +226,15 @@ public final class WorkbenchPresenter extends Presenter {
    */
   private void hideOverlay(WorkbenchOverlay overlay) {
     if (overlay.isAnimated()) {
-      overlay.getAnimationEnd().play();
-      // make sure GlassPane starts hiding at the same time as the animation, not when the animation
-      // is finished and the overlay has been hidden
-      overlay.getGlassPane().setHide(true);
+      // interrupt the overlay while sliding in, it slides back out from where it is
+      overlay.getAnimationStart().stop();
+      Animations.play(overlay.getAnimationEnd(), model.getRenderProfile().getTimeScale());
     } else {
       view.hideOverlay(overlay.getOverlay());
     }
+    // make sure GlassPane starts hiding or moves to the next overlay at the same time as the
+    // animation, not when the animation is finished and the overlay has been hidden
+    stackGlassPane(overlay.getGlassPane());
   }
 
   /**
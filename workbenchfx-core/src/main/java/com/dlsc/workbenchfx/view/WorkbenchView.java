@@ -1,6 +1,11 @@
 package com.dlsc.workbenchfx.view;
 
+import com.dlsc.workbenchfx.model.WorkbenchNotification;
 import com.dlsc.workbenchfx.view.controls.GlassPane;
+import com.dlsc.workbenchfx.view.controls.NotificationLayer;
+import java.util.function.Predicate;
+import javafx.collections.ObservableList;
+import javafx.scene.Node;
 import javafx.scene.layout.Priority;
 import javafx.scene.layout.Region;
 import javafx.scene.layout.StackPane;
@@ -23,6 +28,7 @@ public final class WorkbenchView extends StackPane implements View {
   final ContentView contentView;
 
   VBox viewBox;
+  NotificationLayer notificationLayer;
 
   /**
    * Displays all of the view parts, representing the master view.
@@ -55,6 +61,7 @@ public final class WorkbenchView extends StackPane implements View {
   @Override
   public final void initializeParts() {
     viewBox = new VBox();
+    notificationLayer = new NotificationLayer();
   }
 
   /**
@@ -63,37 +70,75 @@ public final class WorkbenchView extends StackPane implements View {
   @Override
   public final void layoutParts() {
     viewBox.getChildren().addAll(toolbarView, contentView);
-    getChildren().addAll(viewBox);
+    // notifications are always shown on top of all overlays
+    getChildren().addAll(viewBox, notificationLayer);
     VBox.setVgrow(contentView, Priority.ALWAYS);
     VBox.setVgrow(addModuleView, Priority.ALWAYS);
   }
 
   /**
-   * Stacks the {@code overlay} on top of the current view, together with its {@code glassPane} in
-   * the background and makes the {@code glassPane} hide, whenever the overlay is hidden.
+   * Stacks the {@code overlay} on top of the current view. The {@code glassPane}, which is shared
+   * by all overlays, is added together with the first overlay.
    *
    * @param overlay   to be stacked on top of the view
-   * @param glassPane to be added in the background of the {@code overlay}
+   * @param glassPane to be shown in the background of the overlays
    */
   final void addOverlay(Region overlay, GlassPane glassPane) {
     LOGGER.trace("addOverlay");
     overlay.setVisible(false);
-    getChildren().addAll(glassPane, overlay);
-    // make glass pane hide if overlay is not showing
-    overlay.visibleProperty().addListener(observable -> glassPane.setHide(!overlay.isVisible()));
+    ObservableList<Node> children = getChildren();
+    if (glassPane.getParent() != this) {
+      children.add(children.indexOf(notificationLayer), glassPane);
+    }
+    children.add(children.indexOf(notificationLayer), overlay);
   }
 
   /**
-   * Removes the {@code overlay} from the scene graph and removes the bindings created with the call
-   * to {@link WorkbenchView#addOverlay(Region, GlassPane)}.
+   * Removes the {@code overlay} from the scene graph.
    *
-   * @param overlay   to be removed from the scene graph
-   * @param glassPane the {@code overlay}'s corresponding {@link GlassPane}
+   * @param overlay to be removed from the scene graph
    */
-  final void removeOverlay(Region overlay, GlassPane glassPane) {
+  final void removeOverlay(Region overlay) {
     LOGGER.trace("removeOverlay");
-    glassPane.hideProperty().unbind();
-    getChildren().removeAll(glassPane, overlay);
+    getChildren().remove(overlay);
+  }
+
+  /**
+   * Removes the {@code glassPane} from the scene graph, after the last overlay has been removed.
+   *
+   * @param glassPane which was shown in the background of the overlays
+   */
+  final void removeGlassPane(GlassPane glassPane) {
+    LOGGER.trace("removeGlassPane");
+    glassPane.setHide(true);
+    getChildren().remove(glassPane);
+  }
+
+  /**
+   * Stacks the {@code glassPane} directly below the top-most overlay being shown and makes it hide,
+   * if there is no overlay being shown. The {@code glassPane} is left where it is while hiding, so
+   * it fades out behind the overlay it was shown with.
+   *
+   * @param glassPane which is shown in the background of the overlays
+   * @param isShown   to test whether an overlay is being shown
+   * @return the top-most overlay being shown or null, if there is none
+   */
+  final Region stackGlassPane(GlassPane glassPane, Predicate<Node> isShown) {
+    ObservableList<Node> children = getChildren();
+    for (int i = children.size() - 1; i >= 0; i--) {
+      Node child = children.get(i);
+      if (child != glassPane && isShown.test(child)) {
+        if (i == 0 || children.get(i - 1) != glassPane) {
+          LOGGER.trace("Stacking glass pane below " + child);
+          children.remove(glassPane);
+          children.add(children.indexOf(child), glassPane);
+        }
+        glassPane.setHide(false);
+        return (Region) child;
+      }
+    }
+    glassPane.setHide(true);
+    return null;
   }
 
   /**
@@ -116,4 +161,24 @@ public final class WorkbenchView extends StackPane implements View {
     overlay.setVisible(false);
   }
 
+  /**
+   * Shows the {@code notification} on top of the view.
+   *
+   * @param notification to be shown
+   */
+  final void showNotification(WorkbenchNotification notification) {
+    LOGGER.trace("showNotification");
+    notificationLayer.showNotification(notification);
+  }
+
+  /**
+   * Hides the {@code notification}.
+   *
+   * @param notification to be hidden
+   */
+  final void hideNotification(WorkbenchNotification notification) {
+    LOGGER.trace("hideNotification");
+    notificationLayer.hideNotification(notification);
+  }
+
 }
@@ -1,22 +1,36 @@
 package com.dlsc.workbenchfx.view.controls;
 
-import javafx.animation.FadeTransition;
+import com.dlsc.workbenchfx.util.Animations;
+import com.dlsc.workbenchfx.util.RenderProfile;
 import javafx.beans.property.BooleanProperty;
+import javafx.beans.property.ObjectProperty;
 import javafx.beans.property.SimpleBooleanProperty;
+import javafx.beans.property.SimpleObjectProperty;
 import javafx.scene.layout.StackPane;
-import javafx.util.Duration;
 
 /**
  * Represents a black transparent overlay, which hides all currently shown overlays, when it is
  * being clicked.
  *
+ * <p>One {@link GlassPane} is shared by all overlays of a workbench. It is stacked directly below
+ * the top-most overlay being shown and only fades in or out when the first overlay is shown or the
+ * last overlay is hidden.
+ *
+ * <p>With a {@link RenderProfile} which isn't {@link RenderProfile#isTranslucent() translucent},
+ * the {@link GlassPane} stays fully transparent, so it still catches clicks without being blended
+ * over the view.
+ *
  * @author Dirk Lemmermann
  * @author François Martin
  * @author Marco Sanfratello
  */
 public class GlassPane extends StackPane {
 
+  private static final double OPACITY = .5;
+
   private final BooleanProperty hide = new SimpleBooleanProperty(this, "hide", true);
+  private final ObjectProperty<RenderProfile> renderProfile =
+      new SimpleObjectProperty<>(this, "renderProfile", RenderProfile.FULL);
 
   /**
    * Creates a {@link GlassPane} object and fully initializes it.
@@ -26,6 +40,7 @@ public class GlassPane extends StackPane {
 
     setMouseTransparent(false);
     setVisible(false);
+    setOpacity(0);
 
     hideProperty().addListener((observable, oldHide, newHide) -> {
       // don't do anything if the state hasn't changed
@@ -34,20 +49,27 @@ public class GlassPane extends StackPane {
       }
       setVisible(true);
 
-      FadeTransition fadeTransition = new FadeTransition();
-      fadeTransition.setDuration(Duration.millis(200));
-      fadeTransition.setNode(this);
-      fadeTransition.setFromValue(this.isHide() ? .5 : 0);
-      fadeTransition.setToValue(this.isHide() ? 0 : .5);
-      fadeTransition.setOnFinished(evt -> {
-        if (isHide()) {
-          setVisible(false);
-        }
-      });
-      fadeTransition.play();
+      // continues from the current opacity, in case the glass pane is still fading
+      Animations.fade(this, getTargetOpacity(newHide), Animations.FADE_DURATION,
+          getRenderProfile().getTimeScale(), evt -> {
+            if (isHide()) {
+              setVisible(false);
+            }
+          });
+    });
+
+    renderProfileProperty().addListener(observable -> {
+      if (!isHide()) {
+        setOpacity(getTargetOpacity(false));
+      }
     });
   }
 
+  private double getTargetOpacity(boolean hide) {
+    // a node with an opacity of 0 doesn't get rendered, but still receives mouse events
+    return hide || !getRenderProfile().isTranslucent() ? 0 : OPACITY;
+  }
+
   public final BooleanProperty hideProperty() {
     return hide;
   }
@@ -59,4 +81,21 @@ public class GlassPane extends StackPane {
   public final void setHide(boolean hide) {
     this.hide.set(hide);
   }
+
+  /**
+   * Defines how the {@link GlassPane} is being rendered, see {@link RenderProfile}.
+   *
+   * @return the property representing the render profile
+   */
+  public final ObjectProperty<RenderProfile> renderProfileProperty() {
+    return renderProfile;
+  }
+
+  public final RenderProfile getRenderProfile() {
+    return renderProfile.get();
+  }
+
+  public final void setRenderProfile(RenderProfile renderProfile) {
+    this.renderProfile.set(renderProfile);
+  }
 }
@@ -1,5 +1,6 @@
 package com.dlsc.workbenchfx.view.controls;
 
+import com.dlsc.workbenchfx.util.TextLayoutCache;
 import javafx.scene.control.Label;
 import javafx.scene.layout.HBox;
 import javafx.scene.layout.Priority;
@@ -33,4 +34,16 @@ public class MultilineLabel extends Label {
   public final String getMessage() {
     return message;
   }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @implNote Since the height of wrapped text needs to be computed on every layout pass, the
+   *           height computed by the skin is shared with all labels of the same text, font, width
+   *           and styling using the {@link TextLayoutCache}.
+   */
+  @Override
+  protected double computePrefHeight(double width) {
+    return TextLayoutCache.computePrefHeight(this, width, () -> super.computePrefHeight(width));
+  }
 }
@@ -0,0 +1,146 @@
+package com.dlsc.workbenchfx.view.controls;
+
+import com.dlsc.workbenchfx.model.WorkbenchNotification;
+import com.dlsc.workbenchfx.util.WorkbenchUtils;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Consumer;
+import javafx.beans.InvalidationListener;
+import javafx.beans.property.ObjectProperty;
+import javafx.beans.property.SimpleObjectProperty;
+import javafx.geometry.Pos;
+import javafx.scene.control.Label;
+import javafx.scene.layout.VBox;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Represents a transparent layer on top of all other view parts, which shows notifications at the
+ * bottom of the view, without blocking it. Only the notifications themselves receive mouse events.
+ * Clicking on a notification dismisses it.
+ *
+ * <p>The nodes of hidden notifications are kept and reused for the next notifications, up to
+ * {@link #MAXIMUM_IDLE_TOASTS}, so showing a notification usually doesn't create any nodes.
+ *
+ * @author François Martin
+ * @author Marco Sanfratello
+ */
+public class NotificationLayer extends VBox {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(NotificationLayer.class.getName());
+
+  /**
+   * Maximum amount of nodes of hidden notifications to be kept for reuse.
+   */
+  public static final int MAXIMUM_IDLE_TOASTS = 4;
+
+  private final Map<WorkbenchNotification, Toast> toasts = new IdentityHashMap<>();
+  private final Deque<Toast> idleToasts = new ArrayDeque<>();
+
+  private final ObjectProperty<Consumer<WorkbenchNotification>> onDismiss =
+      new SimpleObjectProperty<>(this, "onDismiss");
+
+  /**
+   * Creates a {@link NotificationLayer} object and fully initializes it.
+   */
+  public NotificationLayer() {
+    getStyleClass().add("notification-layer");
+    setAlignment(Pos.BOTTOM_CENTER);
+    setFillWidth(false);
+    // let mouse events pass through where no notification is being shown
+    setPickOnBounds(false);
+  }
+
+  /**
+   * Shows the {@code notification} below the notifications which are already being shown.
+   *
+   * @param notification to be shown
+   */
+  public final void showNotification(WorkbenchNotification notification) {
+    Toast toast = idleToasts.poll();
+    if (Objects.isNull(toast)) {
+      LOGGER.trace("No idle toast, creating a new one");
+      toast = new Toast();
+    }
+    toast.setNotification(notification);
+    toasts.put(notification, toast);
+    getChildren().add(toast);
+  }
+
+  /**
+   * Hides the {@code notification} and keeps its node for the next notification.
+   *
+   * @param notification to be hidden
+   */
+  public final void hideNotification(WorkbenchNotification notification) {
+    Toast toast = toasts.remove(notification);
+    if (Objects.isNull(toast)) {
+      return;
+    }
+    getChildren().remove(toast);
+    toast.setNotification(null);
+    if (idleToasts.size() < MAXIMUM_IDLE_TOASTS) {
+      idleToasts.push(toast);
+    }
+  }
+
+  /**
+   * Defines the action to be performed when a notification was clicked to be dismissed.
+   *
+   * @return the property representing the action
+   */
+  public final ObjectProperty<Consumer<WorkbenchNotification>> onDismissProperty() {
+    return onDismiss;
+  }
+
+  public final Consumer<WorkbenchNotification> getOnDismiss() {
+    return onDismiss.get();
+  }
+
+  public final void setOnDismiss(Consumer<WorkbenchNotification> onDismiss) {
+    this.onDismiss.set(onDismiss);
+  }
+
+  /**
+   * Shows the message of a notification, followed by how many times it has been requested.
+   */
+  private final class Toast extends Label {
+    private final InvalidationListener occurrencesListener = observable -> updateText();
+    private WorkbenchNotification notification;
+
+    private Toast() {
+      getStyleClass().add("notification");
+      setWrapText(true);
+      setOnMouseClicked(event -> {
+        if (!Objects.isNull(notification) && !Objects.isNull(getOnDismiss())) {
+          getOnDismiss().accept(notification);
+        }
+      });
+    }
+
+    private void setNotification(WorkbenchNotification notification) {
+      if (!Objects.isNull(this.notification)) {
+        this.notification.occurrencesProperty().removeListener(occurrencesListener);
+      }
+      this.notification = notification;
+      if (!Objects.isNull(notification)) {
+        notification.occurrencesProperty().addListener(occurrencesListener);
+      }
+      updateText();
+    }
+
+    private void updateText() {
+      if (Objects.isNull(notification)) {
+        setText(null);
+      } else if (notification.getOccurrences() > 1) {
+        setText(notification.getMessage() + " "
+            + WorkbenchUtils.formatOccurrences(notification.getOccurrences()));
+      } else {
+        setText(notification.getMessage());
+      }
+    }
+  }
+}
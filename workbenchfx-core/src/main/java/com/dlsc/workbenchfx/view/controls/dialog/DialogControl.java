@@ -3,10 +3,12 @@ package com.dlsc.workbenchfx.view.controls.dialog;
 import com.dlsc.workbenchfx.Workbench;
 import com.dlsc.workbenchfx.model.WorkbenchDialog;
 import com.dlsc.workbenchfx.view.controls.GlassPane;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.WeakHashMap;
 import javafx.application.Platform;
 import javafx.beans.InvalidationListener;
 import javafx.beans.binding.Bindings;
@@ -54,7 +56,8 @@ public class DialogControl extends Control {
       new SimpleObjectProperty<>(this, "onShown");
 
   private final ObservableList<Button> buttons = FXCollections.observableArrayList();
-  private final Map<ButtonType, Button> buttonNodes = new WeakHashMap<>();
+  // buttons are kept by their type, so they can be reused by following dialogs
+  private final Map<ButtonType, Button> buttonNodes = new HashMap<>();
   private Button defaultButton;
   private ButtonType defaultButtonType;
   private Button cancelButton;
@@ -133,46 +136,54 @@ public class DialogControl extends Control {
   private void updateButtons(WorkbenchDialog dialog) {
     LOGGER.trace("Updating buttons");
 
-    buttons.clear();
     cancelButton = null;
     cancelButtonType = null;
     defaultButton = null;
     defaultButtonType = null;
-    buttonNodes.clear();
 
     if (Objects.isNull(dialog)) {
+      // keep the buttons, in case the control is reused for a dialog with the same button types
+      buttons.clear();
       return;
     }
 
-    boolean hasDefault = false;
+    // only keep the buttons of button types which are still in use
+    buttonNodes.keySet().retainAll(dialog.getButtonTypes());
+
+    List<Button> dialogButtons = new ArrayList<>(dialog.getButtonTypes().size());
     for (ButtonType cmd : dialog.getButtonTypes()) {
       Button button = buttonNodes.computeIfAbsent(cmd, dialogButton -> createButton(cmd));
+      button.setText(getButtonText(cmd));
+      // reused buttons may still be flagged from the dialog they were shown for before
+      button.setDefaultButton(false);
+      button.setCancelButton(false);
 
-      // keep only first default button
       ButtonBar.ButtonData buttonType = cmd.getButtonData();
-
-      boolean isFirstDefaultButton =
-          !hasDefault && buttonType != null && buttonType.isDefaultButton();
-      button.setDefaultButton(isFirstDefaultButton);
-      if (isFirstDefaultButton) {
+      // keep only first default button
+      if (Objects.isNull(defaultButton) && buttonType != null && buttonType.isDefaultButton()) {
         defaultButton = button;
         defaultButtonType = cmd;
       }
       // take last cancel button
-      boolean isCancelButton = buttonType != null && buttonType.isCancelButton();
-      button.setCancelButton(isCancelButton);
-      if (isCancelButton) {
+      if (buttonType != null && buttonType.isCancelButton()) {
         cancelButton = button;
         cancelButtonType = cmd;
       }
-      button.setOnAction(evt -> completeDialog(cmd));
-
-      hasDefault |= buttonType != null && buttonType.isDefaultButton();
 
-      buttons.add(button);
+      dialogButtons.add(button);
 
       LOGGER.trace("updateButtons finished");
     }
+    if (!Objects.isNull(defaultButton)) {
+      defaultButton.setDefaultButton(true);
+    }
+    if (!Objects.isNull(cancelButton)) {
+      cancelButton.setCancelButton(true);
+    }
+    // only notify the skin if the buttons have actually changed
+    if (!buttons.equals(dialogButtons)) {
+      buttons.setAll(dialogButtons);
+    }
 
     updateKeyboardBehavior();
   }
@@ -229,24 +240,38 @@ public class DialogControl extends Control {
 
   private Button createButton(ButtonType buttonType) {
     LOGGER.trace("Create Button: " + buttonType.getText());
-    String buttonText;
-    if (isButtonTextUppercase()) {
-      buttonText = buttonType.getText().toUpperCase();
-    } else {
-      buttonText = buttonType.getText();
-    }
-    final Button button = new Button(buttonText);
+    final Button button = new Button(getButtonText(buttonType));
     final ButtonBar.ButtonData buttonData = buttonType.getButtonData();
     ButtonBar.setButtonData(button, buttonData);
     button.setDefaultButton(buttonData.isDefaultButton());
     button.setCancelButton(buttonData.isCancelButton());
+    button.setOnAction(evt -> completeDialog(buttonType));
     return button;
   }
 
+  private String getButtonText(ButtonType buttonType) {
+    if (isButtonTextUppercase()) {
+      return buttonType.getText().toUpperCase();
+    }
+    return buttonType.getText();
+  }
+
   public final void hide() {
     getWorkbench().hideDialog(getDialog());
   }
 
+  /**
+   * Detaches the control from its dialog after it has been hidden, so it can be used to show
+   * another dialog.
+   */
+  final void reset() {
+    LOGGER.trace("Resetting dialog control");
+    setOnShown(null);
+    setOnHidden(null);
+    removeEventFilter(KeyEvent.ANY, escapeConsumeHandler);
+    setDialog(null);
+  }
+
   /**
    * Retrieves the {@link Button} instance of the {@link DialogControl} which is of the specified
    * {@link ButtonType}.
@@ -256,7 +281,7 @@ public class DialogControl extends Control {
    *     initialized before
    */
   public final Optional<Button> getButton(ButtonType buttonType) {
-    return Optional.ofNullable(buttonNodes.get(buttonType));
+    return Optional.ofNullable(buttonNodes.get(buttonType)).filter(buttons::contains);
   }
 
   // EventHandler
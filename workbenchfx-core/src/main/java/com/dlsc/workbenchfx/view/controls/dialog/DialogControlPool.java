@@ -0,0 +1,118 @@
+package com.dlsc.workbenchfx.view.controls.dialog;
+
+import com.dlsc.workbenchfx.model.WorkbenchDialog;
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.WeakHashMap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Keeps {@link DialogControl}s of hidden dialogs, grouped by the {@link WorkbenchDialog.Type} of
+ * their dialog, so they can be reused for the next dialog of the same type. A reused control keeps
+ * its skin, buttons and CSS state, so showing it again only updates what differs between the
+ * dialogs. Since idle controls may still be part of the scene graph, controls must only be
+ * acquired on the JavaFX Application Thread.
+ *
+ * @author François Martin
+ * @author Marco Sanfratello
+ */
+public final class DialogControlPool {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(DialogControlPool.class.getName());
+
+  /**
+   * Maximum amount of idle controls to be kept per {@link WorkbenchDialog.Type}, any further
+   * controls which are released are discarded.
+   */
+  public static final int MAXIMUM_SIZE = 4;
+
+  private final Map<WorkbenchDialog.Type, Deque<DialogControl>> idleControls =
+      new EnumMap<>(WorkbenchDialog.Type.class);
+
+  // all controls which were created by this pool
+  private final Set<DialogControl> pooledControls =
+      Collections.newSetFromMap(new WeakHashMap<>());
+  // controls which have been handed out by this pool and may be released back into it
+  private final Set<DialogControl> leasedControls =
+      Collections.newSetFromMap(new WeakHashMap<>());
+
+  /**
+   * Returns an idle {@link DialogControl} which was previously used for a dialog of the same
+   * {@code type}, or a new one if there is none.
+   *
+   * @param type of the dialog the control will be used for
+   * @return the control to be used for the dialog
+   */
+  public synchronized DialogControl acquire(WorkbenchDialog.Type type) {
+    Deque<DialogControl> controls = idleControls.get(type);
+    DialogControl dialogControl = Objects.isNull(controls) ? null : controls.pollFirst();
+    if (Objects.isNull(dialogControl)) {
+      LOGGER.trace("No idle dialog control of type " + type + ", creating a new one");
+      dialogControl = new DialogControl();
+      pooledControls.add(dialogControl);
+    }
+    leasedControls.add(dialogControl);
+    return dialogControl;
+  }
+
+  /**
+   * Resets a {@link DialogControl} which was acquired from this pool and keeps it for the next
+   * dialog of the same type.
+   *
+   * @param dialogControl of a dialog which has been hidden
+   * @return true if the control was acquired from this pool and has been released
+   */
+  public synchronized boolean release(DialogControl dialogControl) {
+    if (!leasedControls.remove(dialogControl)) {
+      return false;
+    }
+    WorkbenchDialog dialog = dialogControl.getDialog();
+    WorkbenchDialog.Type type = Objects.isNull(dialog) ? null : dialog.getType();
+    dialogControl.reset();
+    if (Objects.isNull(type)) {
+      return true;
+    }
+    Deque<DialogControl> controls = idleControls.computeIfAbsent(type, t -> new ArrayDeque<>());
+    if (controls.size() < MAXIMUM_SIZE) {
+      LOGGER.trace("Keeping dialog control of type " + type + " for reuse");
+      controls.push(dialogControl);
+    }
+    return true;
+  }
+
+  /**
+   * Returns whether a {@link DialogControl} was created by this pool, which means it may be used
+   * for another dialog after its dialog has been hidden.
+   *
+   * @param dialogControl to be checked
+   * @return true if the control was created by this pool
+   */
+  public synchronized boolean owns(DialogControl dialogControl) {
+    return pooledControls.contains(dialogControl);
+  }
+
+  /**
+   * Returns the amount of idle controls being kept for dialogs of the {@code type}.
+   *
+   * @param type of the dialogs
+   * @return the amount of idle controls
+   */
+  public synchronized int size(WorkbenchDialog.Type type) {
+    Deque<DialogControl> controls = idleControls.get(type);
+    return Objects.isNull(controls) ? 0 : controls.size();
+  }
+
+  /**
+   * Discards all idle controls.
+   */
+  public synchronized void clear() {
+    LOGGER.trace("Clearing dialog control pool");
+    idleControls.clear();
+  }
+}
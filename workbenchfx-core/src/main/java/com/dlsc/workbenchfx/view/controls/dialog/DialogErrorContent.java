@@ -2,21 +2,44 @@ package com.dlsc.workbenchfx.view.controls.dialog;
 
 import com.dlsc.workbenchfx.model.WorkbenchDialog;
 import com.google.common.base.Strings;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Supplier;
 import javafx.scene.Node;
-import javafx.scene.control.TextArea;
+import javafx.scene.control.Button;
+import javafx.scene.control.ListView;
 import javafx.scene.control.TitledPane;
+import javafx.scene.input.Clipboard;
+import javafx.scene.input.ClipboardContent;
+import javafx.scene.layout.Priority;
 import javafx.scene.layout.VBox;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /**
  * Represents the standard control used to display a {@link WorkbenchDialog} of error type.
  *
+ * <p>The details are only shown once the "Details" pane is expanded. They are displayed line by
+ * line in a {@link ListView}, which only creates cells for the visible lines, so even a very long
+ * stacktrace doesn't need to be laid out as a whole. At most {@link #MAX_LINES} lines are shown,
+ * the full details can always be copied to the clipboard.
+ *
  * @author François Martin
  * @author Marco Sanfratello
  */
 public class DialogErrorContent extends VBox {
 
+  private static final Logger LOGGER =
+      LoggerFactory.getLogger(DialogErrorContent.class.getName());
+
+  /**
+   * Maximum amount of lines of the details to be shown.
+   */
+  public static final int MAX_LINES = 1000;
+
   private final Node message;
-  private final String details;
+  private final Supplier<String> details;
 
   /**
    * Creates a control which shows the details of an exception or error to be used as the content of
@@ -26,6 +49,22 @@ public class DialogErrorContent extends VBox {
    * @param details about the error or exception
    */
   public DialogErrorContent(Node message, String details) {
+    this(message, () -> details, !Strings.isNullOrEmpty(details));
+  }
+
+  /**
+   * Creates a control which shows the details of an error {@code dialog} to be used as its content.
+   *
+   * @param message the {@link Node} containing the standard dialog message
+   * @param dialog  of which the details are shown
+   * @implNote The details are only requested from the {@code dialog} once they are being shown, so
+   *           the stacktrace of its exception only gets formatted if it is actually looked at.
+   */
+  public DialogErrorContent(Node message, WorkbenchDialog dialog) {
+    this(message, dialog::getDetails, dialog.hasDetails());
+  }
+
+  private DialogErrorContent(Node message, Supplier<String> details, boolean hasDetails) {
     this.message = message;
     this.details = details;
 
@@ -34,29 +73,61 @@ public class DialogErrorContent extends VBox {
     // add message to the dialog content
     getChildren().add(message);
 
-    // if details were specified, add them wrapped in a TitledPane
-    if (!Strings.isNullOrEmpty(details)) {
-      TextArea textArea = new TextArea();
-      textArea.setText(details);
-      textArea.setWrapText(true);
-      textArea.getStyleClass().add("error-details-text-area");
-
+    // if details were specified, add a collapsed TitledPane which shows them when expanded
+    if (hasDetails) {
       TitledPane titledPane = new TitledPane();
       titledPane.getStyleClass().add("error-details-titled-pane");
       titledPane.setText("Details");
-      titledPane.setContent(textArea);
-      titledPane.setPrefHeight(300);
+      titledPane.setExpanded(false);
+      titledPane.expandedProperty().addListener((observable, wasExpanded, isExpanded) -> {
+        if (isExpanded && Objects.isNull(titledPane.getContent())) {
+          titledPane.setContent(createDetailsView());
+        }
+      });
 
       getChildren().add(titledPane);
     }
 
   }
 
+  private Node createDetailsView() {
+    LOGGER.trace("Creating details view");
+    List<String> lines = Arrays.asList(Strings.nullToEmpty(getDetails()).split("\\R"));
+
+    ListView<String> listView = new ListView<>();
+    listView.getStyleClass().add("error-details-list-view");
+    listView.setPrefHeight(300);
+    if (lines.size() > MAX_LINES) {
+      listView.getItems().setAll(lines.subList(0, MAX_LINES));
+      listView.getItems().add("... " + (lines.size() - MAX_LINES) + " more lines");
+    } else {
+      listView.getItems().setAll(lines);
+    }
+    VBox.setVgrow(listView, Priority.ALWAYS);
+
+    Button copyButton = new Button("Copy");
+    copyButton.getStyleClass().add("error-details-copy-button");
+    copyButton.setOnAction(event -> copyDetails());
+
+    VBox detailsView = new VBox(listView, copyButton);
+    detailsView.getStyleClass().add("error-details-container");
+    return detailsView;
+  }
+
+  /**
+   * Puts the full details, including the lines which are not shown, on the system clipboard.
+   */
+  public final void copyDetails() {
+    ClipboardContent clipboardContent = new ClipboardContent();
+    clipboardContent.putString(Strings.nullToEmpty(getDetails()));
+    Clipboard.getSystemClipboard().setContent(clipboardContent);
+  }
+
   public final Node getMessage() {
     return message;
   }
 
   public final String getDetails() {
-    return details;
+    return details.get();
   }
 }
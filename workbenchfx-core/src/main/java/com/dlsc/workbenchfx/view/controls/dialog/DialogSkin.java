@@ -1,13 +1,16 @@
 package com.dlsc.workbenchfx.view.controls.dialog;
 
 import com.dlsc.workbenchfx.model.WorkbenchDialog;
+import com.dlsc.workbenchfx.util.WorkbenchUtils;
 import com.dlsc.workbenchfx.view.controls.MultilineLabel;
 import java.util.Objects;
+import javafx.beans.InvalidationListener;
 import javafx.beans.binding.Bindings;
 import javafx.beans.property.ReadOnlyObjectProperty;
 import javafx.collections.ObservableList;
 import javafx.scene.control.Button;
 import javafx.scene.control.ButtonBar;
+import javafx.scene.control.ContentDisplay;
 import javafx.scene.control.Label;
 import javafx.scene.control.SkinBase;
 import javafx.scene.layout.HBox;
@@ -32,11 +35,13 @@ public class DialogSkin extends SkinBase<DialogControl> {
   private final ReadOnlyObjectProperty<WorkbenchDialog> dialog;
 
   private Label dialogTitle;
+  private Label dialogOccurrences;
   private VBox dialogPane;
   private HBox dialogHeader;
   private StackPane dialogContentPane;
   private ButtonBar dialogButtonBar;
   private final ObservableList<Button> buttons;
+  private final InvalidationListener occurrencesListener = observable -> updateOccurrences();
 
   /**
    * Creates a new {@link DialogSkin} object for a corresponding {@link DialogControl}.
@@ -69,6 +74,9 @@ public class DialogSkin extends SkinBase<DialogControl> {
     dialogTitle = new Label("Dialog");
     dialogTitle.getStyleClass().add("dialog-title");
 
+    dialogOccurrences = new Label();
+    dialogOccurrences.getStyleClass().add("dialog-occurrences");
+
     dialogContentPane = new StackPane();
     dialogContentPane.getStyleClass().add("dialog-content-pane");
 
@@ -86,6 +94,7 @@ public class DialogSkin extends SkinBase<DialogControl> {
 
     dialogTitle.setMaxWidth(Double.MAX_VALUE);
     dialogTitle.setWrapText(true);
+    dialogTitle.setContentDisplay(ContentDisplay.RIGHT);
     HBox.setHgrow(dialogTitle, Priority.ALWAYS);
     VBox.setVgrow(dialogTitle, Priority.NEVER);
 
@@ -96,11 +105,7 @@ public class DialogSkin extends SkinBase<DialogControl> {
 
   private void setupBindings() {
     dialogButtonBar.managedProperty().bind(dialogButtonBar.visibleProperty());
-    // FIXME: these two select bindings result in these warnings:
-    /* com.sun.javafx.binding.SelectBinding$SelectBindingHelper getObservableValue
-       WARNING: Exception while evaluating select-binding */
-    dialogButtonBar.visibleProperty().bind(Bindings.select(dialog, "buttonsBarShown"));
-    dialogTitle.textProperty().bind(Bindings.select(dialog, "title"));
+    // title and buttonsBarShown are bound to the dialog in updateDialog
     Bindings.bindContent(dialogButtonBar.getButtons(), buttons);
   }
 
@@ -113,7 +118,20 @@ public class DialogSkin extends SkinBase<DialogControl> {
   }
 
   private void updateDialog(WorkbenchDialog oldDialog, WorkbenchDialog newDialog) {
+    if (!Objects.isNull(oldDialog)) {
+      oldDialog.occurrencesProperty().removeListener(occurrencesListener);
+    }
     if (!Objects.isNull(newDialog)) {
+      newDialog.occurrencesProperty().addListener(occurrencesListener);
+    }
+    updateOccurrences();
+    updateBindings(newDialog);
+
+    if (Objects.isNull(newDialog)) {
+      // the control is being reset to be reused, don't keep the content of the old dialog
+      dialogContentPane.getChildren().clear();
+      dialogPane.getStyleClass().setAll("dialog-pane");
+    } else {
       // undo old dialog
       if (!Objects.isNull(oldDialog)) {
         dialogPane.getStyleClass().removeAll(oldDialog.getStyleClass());
@@ -124,7 +142,7 @@ public class DialogSkin extends SkinBase<DialogControl> {
       if (newDialog.getType() == WorkbenchDialog.Type.ERROR
           && newDialog.getContent() instanceof MultilineLabel) {
         newDialog.setContent(
-            new DialogErrorContent(newDialog.getContent(), newDialog.getDetails())
+            new DialogErrorContent(newDialog.getContent(), newDialog)
         );
       }
 
@@ -135,6 +153,38 @@ public class DialogSkin extends SkinBase<DialogControl> {
     }
   }
 
+  /**
+   * Binds the title and the visibility of the button bar to the properties of the {@code dialog}.
+   *
+   * @param dialog which is being shown, or null if there is none
+   */
+  private void updateBindings(WorkbenchDialog dialog) {
+    if (Objects.isNull(dialog)) {
+      dialogButtonBar.visibleProperty().unbind();
+      dialogButtonBar.setVisible(false);
+      dialogTitle.textProperty().unbind();
+      dialogTitle.setText(null);
+    } else {
+      dialogButtonBar.visibleProperty().bind(dialog.buttonsBarShownProperty());
+      dialogTitle.textProperty().bind(dialog.titleProperty());
+    }
+  }
+
+  /**
+   * Shows how many times the dialog has been requested next to the title, if it has been merged
+   * with identical dialogs.
+   */
+  private void updateOccurrences() {
+    WorkbenchDialog dialog = getSkinnable().getDialog();
+    int occurrences = Objects.isNull(dialog) ? 1 : dialog.getOccurrences();
+    if (occurrences > 1) {
+      dialogOccurrences.setText(WorkbenchUtils.formatOccurrences(occurrences));
+      dialogTitle.setGraphic(dialogOccurrences);
+    } else {
+      dialogTitle.setGraphic(null);
+    }
+  }
+
   @Override
   protected void layoutChildren(
       double contentX, double contentY, double contentWidth, double contentHeight) {
@@ -0,0 +1,139 @@
+package com.dlsc.workbenchfx.view.controls.module;
+
+import com.dlsc.workbenchfx.Workbench;
+import com.dlsc.workbenchfx.model.WorkbenchModule;
+import java.util.List;
+import java.util.Objects;
+import javafx.beans.InvalidationListener;
+import javafx.beans.WeakInvalidationListener;
+import javafx.beans.property.ObjectProperty;
+import javafx.beans.property.ReadOnlyObjectProperty;
+import javafx.beans.property.SimpleObjectProperty;
+import javafx.beans.value.ObservableValue;
+import javafx.css.CssMetaData;
+import javafx.css.Styleable;
+import javafx.css.StyleableProperty;
+import javafx.css.StyleablePropertyFactory;
+import javafx.scene.Node;
+import javafx.scene.control.Control;
+import javafx.scene.image.ImageView;
+import javafx.scene.paint.Color;
+import javafx.scene.paint.Paint;
+
+/**
+ * Base class of the controls which represent a {@link WorkbenchModule} along with its icon, like
+ * {@link Tile} and {@link Tab}. If the {@link Workbench} rasterizes the icons, their size and fill
+ * can be styled using {@code -fx-icon-size} and {@code -fx-icon-fill}.
+ *
+ * @author François Martin
+ * @author Marco Sanfratello
+ */
+public abstract class ModuleControl extends Control {
+
+  private static final StyleablePropertyFactory<ModuleControl> FACTORY =
+      new StyleablePropertyFactory<>(Control.getClassCssMetaData());
+  private static final double DEFAULT_ICON_SIZE = 16;
+  private static final Paint DEFAULT_ICON_FILL = Color.BLACK;
+
+  private final Workbench workbench;
+  private final ObjectProperty<Node> icon = new SimpleObjectProperty<>(this, "icon");
+  // module the current icon has been created for
+  private WorkbenchModule iconModule;
+  private InvalidationListener rasterizeIconsListener;
+
+  // only used if the workbench rasterizes the icons, see Workbench#rasterizeIconsProperty()
+  private final StyleableProperty<Number> iconSize = FACTORY.createStyleableNumberProperty(
+      this, "iconSize", "-fx-icon-size", s -> s.iconSize, DEFAULT_ICON_SIZE);
+  private final StyleableProperty<Paint> iconFill = FACTORY.createStyleablePaintProperty(
+      this, "iconFill", "-fx-icon-fill", s -> s.iconFill, DEFAULT_ICON_FILL);
+
+  /**
+   * Constructs a new {@link ModuleControl}.
+   *
+   * @param workbench which created this control
+   */
+  protected ModuleControl(Workbench workbench) {
+    this.workbench = workbench;
+    setupIconListeners();
+  }
+
+  private void setupIconListeners() {
+    // re-rasterize the icon whenever its size or fill have been changed by css
+    InvalidationListener iconStyleListener = observable -> {
+      if (workbench.isRasterizeIcons() && !Objects.isNull(getModule())) {
+        updateIcon();
+      }
+    };
+    iconSizeProperty().addListener(iconStyleListener);
+    iconFillProperty().addListener(iconStyleListener);
+
+    // switch between the icon node and the rasterized icon, the workbench outlives this control
+    rasterizeIconsListener = observable -> {
+      if (!Objects.isNull(getModule())) {
+        updateIcon();
+      }
+    };
+    workbench.rasterizeIconsProperty().addListener(
+        new WeakInvalidationListener(rasterizeIconsListener));
+  }
+
+  /**
+   * Updates the icon to the icon of the current module.
+   *
+   * @implNote If only the size or fill of a rasterized icon changed, the existing
+   *           {@link ImageView} is kept and only shows another area of the icon atlas pages.
+   */
+  protected final void updateIcon() {
+    WorkbenchModule current = getModule();
+    if (!workbench.isRasterizeIcons()) {
+      icon.setValue(current.getIcon());
+    } else if (current == iconModule && getIcon() instanceof ImageView) {
+      current.updateIcon((ImageView) getIcon(), getIconSize(), getIconFill());
+    } else {
+      icon.setValue(current.getIcon(getIconSize(), getIconFill()));
+    }
+    iconModule = current;
+  }
+
+  /**
+   * Returns the module which is being represented by this control.
+   *
+   * @return the module or null, if none has been set yet
+   */
+  public abstract WorkbenchModule getModule();
+
+  public final Node getIcon() {
+    return icon.get();
+  }
+
+  public final ReadOnlyObjectProperty<Node> iconProperty() {
+    return icon;
+  }
+
+  public final double getIconSize() {
+    return iconSizeProperty().getValue().doubleValue();
+  }
+
+  @SuppressWarnings("unchecked")
+  public final ObservableValue<Number> iconSizeProperty() {
+    return (ObservableValue<Number>) iconSize;
+  }
+
+  public final Paint getIconFill() {
+    return iconFillProperty().getValue();
+  }
+
+  @SuppressWarnings("unchecked")
+  public final ObservableValue<Paint> iconFillProperty() {
+    return (ObservableValue<Paint>) iconFill;
+  }
+
+  public static List<CssMetaData<? extends Styleable, ?>> getClassCssMetaData() {
+    return FACTORY.getCssMetaData();
+  }
+
+  @Override
+  protected List<CssMetaData<? extends Styleable, ?>> getControlCssMetaData() {
+    return getClassCssMetaData();
+  }
+}
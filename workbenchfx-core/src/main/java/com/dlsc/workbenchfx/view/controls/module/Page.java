@@ -3,6 +3,7 @@ package com.dlsc.workbenchfx.view.controls.module;
 import com.dlsc.workbenchfx.Workbench;
 import com.dlsc.workbenchfx.model.WorkbenchModule;
 import javafx.beans.InvalidationListener;
+import javafx.beans.WeakInvalidationListener;
 import javafx.beans.property.IntegerProperty;
 import javafx.beans.property.SimpleIntegerProperty;
 import javafx.collections.FXCollections;
@@ -28,6 +29,7 @@ public class Page extends Control {
   private final ObservableList<Tile> tiles;
   private final IntegerProperty modulesPerPage;
   private InvalidationListener modulesChangedListener;
+  private WeakInvalidationListener weakModulesChangedListener;
 
   /**
    * Constructs a new {@link Tab}.
@@ -48,9 +50,28 @@ public class Page extends Control {
   private void setupChangeListeners() {
     // update tiles list whenever modules or the pageIndex of this page have changed
     modulesChangedListener = observable -> updateTiles();
-    modules.addListener(modulesChangedListener);
+    // the modules and modulesPerPage belong to the workbench, which outlives the pages created and
+    // discarded by the pagination, so they must only reference this page weakly
+    weakModulesChangedListener = new WeakInvalidationListener(modulesChangedListener);
+    modules.addListener(weakModulesChangedListener);
     pageIndex.addListener(modulesChangedListener);
-    modulesPerPage.addListener(modulesChangedListener);
+    modulesPerPage.addListener(weakModulesChangedListener);
+  }
+
+  /**
+   * Detaches this {@link Page} from the {@link Workbench} and removes all of its {@link Tile}s.
+   *
+   * @implNote The add module view calls this method once a page has been replaced by another
+   *           page and is no longer shown, so a discarded page stops updating its tiles
+   *           immediately. Pages which are not disposed still get garbage collected, since the
+   *           {@link Workbench} only references them weakly.
+   */
+  public void dispose() {
+    LOGGER.debug(String.format("Page %s is being disposed", getPageIndex()));
+    modules.removeListener(weakModulesChangedListener);
+    pageIndex.removeListener(modulesChangedListener);
+    modulesPerPage.removeListener(weakModulesChangedListener);
+    tiles.clear();
   }
 
   private void updateTiles() {
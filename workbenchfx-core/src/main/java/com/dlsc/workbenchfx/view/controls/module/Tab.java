@@ -2,8 +2,11 @@ package com.dlsc.workbenchfx.view.controls.module;
 
 import com.dlsc.workbenchfx.Workbench;
 import com.dlsc.workbenchfx.model.WorkbenchModule;
+import com.dlsc.workbenchfx.util.SelectionDispatcher;
+import com.dlsc.workbenchfx.util.ThumbnailCache;
 import com.dlsc.workbenchfx.util.WorkbenchUtils;
-import javafx.beans.binding.Bindings;
+import java.util.Objects;
+import java.util.function.Consumer;
 import javafx.beans.property.BooleanProperty;
 import javafx.beans.property.ObjectProperty;
 import javafx.beans.property.ReadOnlyBooleanProperty;
@@ -14,9 +17,12 @@ import javafx.beans.property.SimpleObjectProperty;
 import javafx.beans.property.SimpleStringProperty;
 import javafx.beans.property.StringProperty;
 import javafx.css.PseudoClass;
-import javafx.scene.Node;
-import javafx.scene.control.Control;
+import javafx.scene.control.ContentDisplay;
 import javafx.scene.control.Skin;
+import javafx.scene.control.Tooltip;
+import javafx.scene.image.Image;
+import javafx.scene.image.ImageView;
+import javafx.scene.input.MouseEvent;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -26,28 +32,36 @@ import org.slf4j.LoggerFactory;
  * @author François Martin
  * @author Marco Sanfratello
  */
-public class Tab extends Control {
+public class Tab extends ModuleControl {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(Tab.class.getName());
 
   private final Workbench workbench;
   private final ObjectProperty<WorkbenchModule> module;
   private final StringProperty name;
-  private final ObjectProperty<Node> icon;
   private final BooleanProperty activeTab;
   private static final PseudoClass SELECTED = PseudoClass.getPseudoClass("selected");
 
+  // only referenced weakly by the dispatcher, needs to be kept for as long as the tab exists
+  private final Consumer<Boolean> activeModuleListener;
+  private SelectionDispatcher<WorkbenchModule> activeModuleDispatcher;
+
+  // only created when a preview is shown for the first time, see Workbench#tabPreviewsProperty()
+  private Tooltip preview;
+  private ImageView previewImage;
+
   /**
    * Constructs a new {@link Tab}.
    *
    * @param workbench which created this {@link Tab}
    */
   public Tab(Workbench workbench) {
+    super(workbench);
     this.workbench = workbench;
     module = new SimpleObjectProperty<>(this, "module");
     name = new SimpleStringProperty(this, "name");
-    icon = new SimpleObjectProperty<>(this, "icon");
     activeTab = new SimpleBooleanProperty(this, "activeTab");
+    activeModuleListener = activeTab::set;
     setupModuleListeners();
     setupActiveTabListener();
     setupEventHandlers();
@@ -55,7 +69,36 @@ public class Tab extends Control {
   }
 
   private void setupEventHandlers() {
-    setOnMouseClicked(e -> open());
+    setOnMouseClicked(e -> {
+      // a click which ends dragging the tab to reorder it doesn't open its module
+      if (e.isStillSincePress()) {
+        open();
+      }
+    });
+    addEventHandler(MouseEvent.MOUSE_ENTERED, e -> updatePreview());
+  }
+
+  private void updatePreview() {
+    Image thumbnail = null;
+    if (workbench.isTabPreviews() && !isActiveTab()) {
+      thumbnail = ThumbnailCache.get(getModule());
+    }
+    if (Objects.isNull(thumbnail)) {
+      setTooltip(null);
+      return;
+    }
+    if (Objects.isNull(preview)) {
+      previewImage = new ImageView();
+      preview = new Tooltip();
+      preview.getStyleClass().add("tab-preview");
+      preview.setContentDisplay(ContentDisplay.TOP);
+      preview.setGraphic(previewImage);
+      // don't keep the thumbnail alive while the preview isn't showing
+      preview.setOnHidden(e -> previewImage.setImage(null));
+    }
+    previewImage.setImage(thumbnail);
+    preview.setText(getName());
+    setTooltip(preview);
   }
 
   private void setupModuleListeners() {
@@ -63,7 +106,7 @@ public class Tab extends Control {
       WorkbenchModule current = getModule();
       // Replace any occurence of \n with space
       name.setValue(current.getName().replace("\n", " "));
-      icon.setValue(current.getIcon());
+      updateIcon();
 
       // Sets the id with toString of module.
       // Adds 'tab-', replaces spaces with hyphens and sets letters to lowercase.
@@ -75,17 +118,34 @@ public class Tab extends Control {
   }
 
   private void setupActiveTabListener() {
-    // whenever the module of this tab changes, re-initialize the binding which determines whether
-    // this tab is the currently active tab or not
-    moduleProperty().addListener(observable -> {
-      activeTab.unbind();
-      activeTab.bind(Bindings.equal(getModule(), workbench.activeModuleProperty()));
+    // whenever the module of this tab changes, only listen to the active module being changed from
+    // or to the module of this tab, instead of each tab re-evaluating every change
+    moduleProperty().addListener((observable, oldModule, newModule) -> {
+      if (Objects.isNull(activeModuleDispatcher)) {
+        activeModuleDispatcher = SelectionDispatcher.of(workbench.activeModuleProperty());
+      } else {
+        activeModuleDispatcher.unregister(oldModule, activeModuleListener);
+      }
+      activeModuleDispatcher.register(newModule, activeModuleListener);
+      activeTab.set(activeModuleDispatcher.isSelected(newModule));
     });
     activeTab.addListener((observable, oldValue, newValue) ->
         pseudoClassStateChanged(SELECTED, newValue)
     );
   }
 
+  /**
+   * Stops this {@link Tab} from being notified about changes of the active module, when it's
+   * being discarded. The tab starts listening again once another module is set.
+   */
+  public void dispose() {
+    LOGGER.trace("Disposing tab of " + getModule());
+    if (!Objects.isNull(activeModuleDispatcher)) {
+      activeModuleDispatcher.unregister(getModule(), activeModuleListener);
+      activeModuleDispatcher = null;
+    }
+  }
+
   /**
    * Closes the {@link WorkbenchModule} along with this {@link Tab}.
    */
@@ -100,6 +160,7 @@ public class Tab extends Control {
     workbench.openModule(getModule());
   }
 
+  @Override
   public final WorkbenchModule getModule() {
     return module.get();
   }
@@ -126,14 +187,6 @@ public class Tab extends Control {
     return name;
   }
 
-  public final Node getIcon() {
-    return icon.get();
-  }
-
-  public final ReadOnlyObjectProperty<Node> iconProperty() {
-    return icon;
-  }
-
   public final boolean isActiveTab() {
     return activeTab.get();
   }
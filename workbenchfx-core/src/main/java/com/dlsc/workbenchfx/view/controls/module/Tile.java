@@ -4,13 +4,10 @@ import com.dlsc.workbenchfx.Workbench;
 import com.dlsc.workbenchfx.model.WorkbenchModule;
 import com.dlsc.workbenchfx.util.WorkbenchUtils;
 import javafx.beans.property.ObjectProperty;
-import javafx.beans.property.ReadOnlyObjectProperty;
 import javafx.beans.property.ReadOnlyStringProperty;
 import javafx.beans.property.SimpleObjectProperty;
 import javafx.beans.property.SimpleStringProperty;
 import javafx.beans.property.StringProperty;
-import javafx.scene.Node;
-import javafx.scene.control.Control;
 import javafx.scene.control.Skin;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -22,7 +19,7 @@ import org.slf4j.LoggerFactory;
  * @author François Martin
  * @author Marco Sanfratello
  */
-public class Tile extends Control {
+public class Tile extends ModuleControl {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(Tile.class.getName());
 
@@ -30,7 +27,6 @@ public class Tile extends Control {
   private final ObjectProperty<WorkbenchModule> module;
 
   private final StringProperty name;
-  private final ObjectProperty<Node> icon;
 
   /**
    * Constructs a new {@link Tile}.
@@ -38,10 +34,10 @@ public class Tile extends Control {
    * @param workbench which created this {@link Tile}
    */
   public Tile(Workbench workbench) {
+    super(workbench);
     this.workbench = workbench;
     module = new SimpleObjectProperty<>(this, "module");
     name = new SimpleStringProperty(this, "name");
-    icon = new SimpleObjectProperty<>(this, "icon");
     setupModuleListeners();
     setupEventHandlers();
     getStyleClass().add("tile-control");
@@ -51,7 +47,7 @@ public class Tile extends Control {
     module.addListener(observable -> {
       WorkbenchModule current = getModule();
       name.setValue(current.getName());
-      icon.setValue(current.getIcon());
+      updateIcon();
 
       // Sets the id with toString of module.
       // Adds 'tile-', replaces spaces with hyphens and sets letters to lowercase.
@@ -73,6 +69,7 @@ public class Tile extends Control {
     workbench.openModule(getModule());
   }
 
+  @Override
   public final WorkbenchModule getModule() {
     return module.get();
   }
@@ -99,14 +96,6 @@ public class Tile extends Control {
     return name;
   }
 
-  public final Node getIcon() {
-    return icon.get();
-  }
-
-  public final ReadOnlyObjectProperty<Node> iconProperty() {
-    return icon;
-  }
-
   @Override
   protected Skin<?> createDefaultSkin() {
     return new TileSkin(this);
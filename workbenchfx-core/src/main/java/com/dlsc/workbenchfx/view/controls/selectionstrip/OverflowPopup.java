@@ -0,0 +1,181 @@
+package com.dlsc.workbenchfx.view.controls.selectionstrip;
+
+import java.util.Locale;
+import java.util.Objects;
+import javafx.collections.transformation.FilteredList;
+import javafx.geometry.Bounds;
+import javafx.scene.Node;
+import javafx.scene.control.ListCell;
+import javafx.scene.control.ListView;
+import javafx.scene.control.PopupControl;
+import javafx.scene.control.Skin;
+import javafx.scene.control.TextField;
+import javafx.scene.input.KeyCode;
+import javafx.scene.input.KeyEvent;
+import javafx.scene.input.MouseButton;
+import javafx.scene.input.MouseEvent;
+import javafx.scene.layout.VBox;
+import javafx.stage.PopupWindow;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Popup which lists all items of a {@link SelectionStrip}, so items which are scrolled out of view
+ * can be searched for and selected directly. The content of the popup is only built when it gets
+ * shown for the first time. The items are only bound to the list while the popup is showing, and
+ * only the visible rows of the list get cells.
+ *
+ * @param <T> type of the items of the {@link SelectionStrip}
+ * @author François Martin
+ * @author Marco Sanfratello
+ */
+final class OverflowPopup<T> extends PopupControl {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(OverflowPopup.class.getName());
+
+  private final SelectionStrip<T> strip;
+
+  private TextField searchField;
+  private ListView<T> listView;
+  private FilteredList<T> filteredItems;
+
+  /**
+   * Constructs a new {@link OverflowPopup}.
+   *
+   * @param strip of which the items should be listed
+   */
+  OverflowPopup(SelectionStrip<T> strip) {
+    this.strip = strip;
+    getStyleClass().add("overflow-popup");
+    setAutoHide(true);
+    setHideOnEscape(true);
+    setAnchorLocation(PopupWindow.AnchorLocation.CONTENT_TOP_RIGHT);
+    setOnHidden(event -> releaseItems());
+  }
+
+  /**
+   * Shows the popup below the {@code anchor}, right-aligned with it.
+   *
+   * @param anchor node which opened the popup
+   */
+  void show(Node anchor) {
+    if (Objects.isNull(getSkin())) {
+      LOGGER.trace("Building content of the overflow popup");
+      setSkin(new OverflowPopupSkin());
+    }
+    bindItems();
+
+    Bounds bounds = anchor.localToScreen(anchor.getBoundsInLocal());
+    show(anchor, bounds.getMaxX(), bounds.getMaxY());
+    searchField.requestFocus();
+  }
+
+  private void bindItems() {
+    filteredItems = new FilteredList<>(strip.getItems());
+    listView.setItems(filteredItems);
+    updateFilter();
+
+    T selectedItem = strip.getSelectedItem();
+    if (!Objects.isNull(selectedItem)) {
+      listView.getSelectionModel().select(selectedItem);
+      listView.scrollTo(selectedItem);
+    }
+  }
+
+  private void releaseItems() {
+    // don't keep any cells or a listener on the items while the popup is hidden
+    listView.setItems(null);
+    filteredItems = null;
+    searchField.clear();
+  }
+
+  private void updateFilter() {
+    if (Objects.isNull(filteredItems)) {
+      return;
+    }
+    String query = searchField.getText().trim().toLowerCase(Locale.ROOT);
+    if (query.isEmpty()) {
+      filteredItems.setPredicate(null);
+    } else {
+      filteredItems.setPredicate(
+          item -> toDisplayText(item).toLowerCase(Locale.ROOT).contains(query));
+    }
+    if (!filteredItems.isEmpty()) {
+      listView.getSelectionModel().selectFirst();
+    }
+  }
+
+  private void select(T item) {
+    if (!Objects.isNull(item)) {
+      strip.setSelectedItem(item);
+    }
+    hide();
+  }
+
+  private static String toDisplayText(Object item) {
+    // Replace any occurence of \n with space, the same way tabs show the name of their module
+    return Objects.toString(item, "").replace("\n", " ");
+  }
+
+  private final class OverflowPopupSkin implements Skin<OverflowPopup<T>> {
+
+    private final VBox root;
+
+    OverflowPopupSkin() {
+      searchField = new TextField();
+      searchField.getStyleClass().add("search-field");
+      searchField.setPromptText("Search");
+      searchField.textProperty().addListener(observable -> updateFilter());
+      searchField.addEventHandler(KeyEvent.KEY_PRESSED, event -> {
+        if (event.getCode() == KeyCode.ENTER) {
+          select(listView.getSelectionModel().getSelectedItem());
+          event.consume();
+        } else if (event.getCode() == KeyCode.DOWN) {
+          listView.requestFocus();
+          event.consume();
+        }
+      });
+
+      listView = new ListView<>();
+      listView.getStyleClass().add("overflow-list");
+      listView.setCellFactory(view -> {
+        ListCell<T> cell = new ListCell<T>() {
+          @Override
+          protected void updateItem(T item, boolean empty) {
+            super.updateItem(item, empty);
+            setText(empty ? null : toDisplayText(item));
+          }
+        };
+        cell.addEventHandler(MouseEvent.MOUSE_CLICKED, event -> {
+          if (event.getButton() == MouseButton.PRIMARY && !cell.isEmpty()) {
+            select(cell.getItem());
+          }
+        });
+        return cell;
+      });
+      listView.addEventHandler(KeyEvent.KEY_PRESSED, event -> {
+        if (event.getCode() == KeyCode.ENTER) {
+          select(listView.getSelectionModel().getSelectedItem());
+          event.consume();
+        }
+      });
+
+      root = new VBox(searchField, listView);
+      root.getStyleClass().add("overflow-box");
+    }
+
+    @Override
+    public OverflowPopup<T> getSkinnable() {
+      return OverflowPopup.this;
+    }
+
+    @Override
+    public Node getNode() {
+      return root;
+    }
+
+    @Override
+    public void dispose() {
+    }
+  }
+}
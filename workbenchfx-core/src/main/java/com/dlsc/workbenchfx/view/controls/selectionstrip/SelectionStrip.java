@@ -1,5 +1,8 @@
 package com.dlsc.workbenchfx.view.controls.selectionstrip;
 
+import com.dlsc.workbenchfx.util.RenderProfile;
+import com.dlsc.workbenchfx.util.WorkbenchUtils;
+import java.util.function.BiConsumer;
 import javafx.beans.property.BooleanProperty;
 import javafx.beans.property.ListProperty;
 import javafx.beans.property.ObjectProperty;
@@ -96,6 +99,122 @@ public class SelectionStrip<T> extends Control {
     this.animationDuration.set(animationDuration);
   }
 
+  // Render profile support.
+
+  private final ObjectProperty<RenderProfile> renderProfile = new SimpleObjectProperty<>(this,
+      "renderProfile", RenderProfile.FULL);
+
+  /**
+   * Defines how the animations of the strip are being played. The time scale of the
+   * {@link RenderProfile} is applied to the durations of the scrolling and fading animations, if
+   * {@link #animateScrollingProperty()} is enabled.
+   *
+   * @return the property representing the render profile
+   */
+  public final ObjectProperty<RenderProfile> renderProfileProperty() {
+    return renderProfile;
+  }
+
+  public final RenderProfile getRenderProfile() {
+    return renderProfile.get();
+  }
+
+  public final void setRenderProfile(RenderProfile renderProfile) {
+    this.renderProfile.set(renderProfile);
+  }
+
+  // Virtualization support.
+
+  private final BooleanProperty virtualized = new SimpleBooleanProperty(this, "virtualized",
+      false);
+
+  /**
+   * Defines whether only the cells of the items which are currently visible should be created and
+   * laid out, instead of the cells of all items. Cells of items which are scrolled out of view get
+   * reused for the items being scrolled into view.
+   *
+   * @return the property which defines whether the strip is virtualized
+   */
+  public final BooleanProperty virtualizedProperty() {
+    return virtualized;
+  }
+
+  public final boolean isVirtualized() {
+    return virtualized.get();
+  }
+
+  public final void setVirtualized(boolean virtualized) {
+    this.virtualized.set(virtualized);
+  }
+
+  // Overflow support.
+
+  private final BooleanProperty showOverflowButton = new SimpleBooleanProperty(this,
+      "showOverflowButton", true);
+
+  /**
+   * Defines whether a button should be shown when the items don't fit into the strip, which opens
+   * a popup listing all items. The items in the popup can be searched and selected, even if they
+   * are scrolled out of view.
+   *
+   * @return the property which defines whether the overflow button is shown
+   */
+  public final BooleanProperty showOverflowButtonProperty() {
+    return showOverflowButton;
+  }
+
+  public final boolean isShowOverflowButton() {
+    return showOverflowButton.get();
+  }
+
+  public final void setShowOverflowButton(boolean showOverflowButton) {
+    this.showOverflowButton.set(showOverflowButton);
+  }
+
+  // Reordering support.
+
+  private final BooleanProperty reorderable = new SimpleBooleanProperty(this, "reorderable",
+      false);
+
+  /**
+   * Defines whether the items can be reordered by dragging their cells within the strip.
+   *
+   * @return the property which defines whether the items can be reordered
+   */
+  public final BooleanProperty reorderableProperty() {
+    return reorderable;
+  }
+
+  public final boolean isReorderable() {
+    return reorderable.get();
+  }
+
+  public final void setReorderable(boolean reorderable) {
+    this.reorderable.set(reorderable);
+  }
+
+  private final ObjectProperty<BiConsumer<T, Integer>> reorderHandler = new SimpleObjectProperty<>(
+      this, "reorderHandler", (item, index) -> WorkbenchUtils.moveItem(getItems(), item, index));
+
+  /**
+   * Defines what happens when an item has been dragged to a new position, getting called with the
+   * item and its new index. By default, the item gets moved within {@link #getItems()}. If the
+   * items are backed by another list, the handler should move the item in that list instead.
+   *
+   * @return the property of the handler which moves an item to a new position
+   */
+  public final ObjectProperty<BiConsumer<T, Integer>> reorderHandlerProperty() {
+    return reorderHandler;
+  }
+
+  public final BiConsumer<T, Integer> getReorderHandler() {
+    return reorderHandler.get();
+  }
+
+  public final void setReorderHandler(BiConsumer<T, Integer> reorderHandler) {
+    this.reorderHandler.set(reorderHandler);
+  }
+
   // Selection model support.
 
   public final ObjectProperty<T> selectedItem = new SimpleObjectProperty<>(this, "selectedItem");
@@ -1,21 +1,26 @@
 package com.dlsc.workbenchfx.view.controls.selectionstrip;
 
+import com.dlsc.workbenchfx.util.Animations;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
-import javafx.animation.Animation;
-import javafx.animation.FadeTransition;
+import java.util.Objects;
+import java.util.Set;
+import javafx.animation.AnimationTimer;
 import javafx.animation.Interpolator;
-import javafx.animation.KeyFrame;
-import javafx.animation.KeyValue;
-import javafx.animation.ParallelTransition;
-import javafx.animation.Timeline;
-import javafx.application.Platform;
 import javafx.beans.Observable;
 import javafx.beans.property.BooleanProperty;
 import javafx.beans.property.DoubleProperty;
 import javafx.beans.property.SimpleBooleanProperty;
 import javafx.beans.property.SimpleDoubleProperty;
+import javafx.collections.ObservableList;
+import javafx.css.PseudoClass;
+import javafx.geometry.BoundingBox;
 import javafx.geometry.Bounds;
 import javafx.geometry.Pos;
 import javafx.scene.Node;
@@ -26,18 +31,58 @@ import javafx.scene.layout.HBox;
 import javafx.scene.layout.Region;
 import javafx.scene.shape.Rectangle;
 import javafx.util.Duration;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 public class SelectionStripSkin<T> extends SkinBase<SelectionStrip<T>> {
 
+  private static final Logger LOGGER =
+      LoggerFactory.getLogger(SelectionStripSkin.class.getName());
+
   private static final String SCROLL_TO_KEY = "scroll.to";
+  private static final String FIRST_CHILD = "first-child";
+
+  /**
+   * Width which is assumed for cells which haven't been measured yet in virtualized mode.
+   */
+  private static final double DEFAULT_CELL_WIDTH = 100;
+
+  private static final Duration SCROLL_DURATION = Duration.millis(500);
+
+  /**
+   * Distance the mouse needs to be dragged, before a cell starts being dragged to be reordered.
+   */
+  private static final double DRAG_THRESHOLD = 5;
+  private static final PseudoClass DRAGGING = PseudoClass.getPseudoClass("dragging");
 
   private final HBox content;
   private final Region leftBtn;
   private final Region rightBtn;
   private final Region leftFader;
   private final Region rightFader;
+  private final Region overflowBtn;
+
+  // only gets created when the overflow button is clicked for the first time
+  private OverflowPopup<T> overflowPopup;
+
+  private final Map<T, StripCell<T>> nodeMap = new HashMap<>();
 
-  private final Map<T, Node> nodeMap = new HashMap<>();
+  // Virtualization support
+  private final Region leadingSpacer = new Region();
+  private final Region trailingSpacer = new Region();
+  private final Map<T, Double> cellWidths = new HashMap<>();
+  private final Deque<StripCell<T>> unusedCells = new ArrayDeque<>();
+  private int firstVisibleIndex = -1;
+  private int lastVisibleIndex = -1;
+  // whether the cells need to be reconciled, even though the visible range didn't change
+  private boolean virtualCellsInvalid = true;
+
+  private final ScrollAnimator scrollAnimator = new ScrollAnimator();
+
+  // Reordering support
+  private StripCell<T> dragCell;
+  private double dragStartX;
+  private boolean dragging;
 
   /**
    * Constructor for all SkinBase instances.
@@ -72,7 +117,10 @@ public class SelectionStripSkin<T> extends SkinBase<SelectionStrip<T>> {
     rightFader.getStyleClass().addAll("fader", "right");
     rightFader.setOpacity(0);
 
-    getChildren().addAll(content, leftFader, rightFader, leftBtn, rightBtn);
+    overflowBtn = new Region();
+    overflowBtn.getStyleClass().add("overflow-button");
+
+    getChildren().addAll(content, leftFader, rightFader, leftBtn, rightBtn, overflowBtn);
     getChildren().forEach(child -> child.setManaged(false));
 
     Rectangle clip = new Rectangle();
@@ -85,76 +133,355 @@ public class SelectionStripSkin<T> extends SkinBase<SelectionStrip<T>> {
     setupEventHandlers();
 
     strip.itemsProperty().addListener((Observable it) -> buildContent());
+    // cells of the old factory or rendering mode can't be reused
+    strip.cellFactoryProperty().addListener((Observable it) -> resetContent());
+    strip.virtualizedProperty().addListener((Observable it) -> resetContent());
     buildContent();
   }
 
-  private void scrollTo(T item) {
-    Node node = nodeMap.get(item);
+  /**
+   * Reconciles the cells with the items of the strip. Cells of items which are still in the strip
+   * are kept, only cells of new items get created and cells of removed items get discarded.
+   */
+  private void buildContent() {
+    final SelectionStrip<T> strip = getSkinnable();
+    final List<T> items = strip.getItems();
 
-    if (node != null) {
-      SelectionStrip strip = getSkinnable();
+    if (strip.isVirtualized()) {
+      cellWidths.keySet().retainAll(new HashSet<>(items));
+      virtualCellsInvalid = true;
+      updateVirtualCells();
+      return;
+    }
 
-      strip.getProperties().remove(SCROLL_TO_KEY);
+    // discard the cells of removed items
+    final Set<T> itemSet = new HashSet<>(items);
+    nodeMap.entrySet().removeIf(entry -> {
+      if (itemSet.contains(entry.getKey())) {
+        return false;
+      }
+      discardCell(entry.getValue());
+      return true;
+    });
 
-      final Bounds nodeBounds = node.localToParent(node.getLayoutBounds());
+    final List<Node> cells = new ArrayList<>(items.size());
+    for (T item : items) {
+      cells.add(nodeMap.computeIfAbsent(item, this::createCell));
+    }
+    updateChildren(content.getChildren(), cells);
+    updateFirstChild();
+    strip.requestLayout();
+  }
 
-      final double x = -nodeBounds.getMinX() + strip.getWidth() / 2 - nodeBounds.getWidth() / 2;
+  private void resetContent() {
+    nodeMap.values().forEach(this::discardCell);
+    unusedCells.forEach(this::discardCell);
+    nodeMap.clear();
+    cellWidths.clear();
+    unusedCells.clear();
+    content.getChildren().clear();
+    firstVisibleIndex = -1;
+    lastVisibleIndex = -1;
+    buildContent();
+  }
 
-      final double x1 = -translateX.get();
-      final double x2 = x1 + strip.getLayoutBounds().getWidth();
+  /**
+   * Updates the cells in virtualized mode, so there are only cells for the items which are
+   * intersecting with the visible area of the strip. Cells of items which are scrolled out of view
+   * are reused for the items which are scrolled into view. The space of all other items is taken
+   * up by a spacer before and after the visible cells, using their measured or estimated widths.
+   * The cells are only reconciled when the range of visible items or the items themselves change.
+   */
+  private void updateVirtualCells() {
+    final SelectionStrip<T> strip = getSkinnable();
+    if (!strip.isVirtualized()) {
+      return;
+    }
+    final List<T> items = strip.getItems();
+    final double estimatedWidth = estimateCellWidth();
+    final double viewportStart = -translateX.get();
+    final double viewportEnd = viewportStart + getViewportWidth();
+
+    // find the items intersecting with the viewport
+    int first = -1;
+    int last = -1;
+    double leadingWidth = 0;
+    double visibleWidth = 0;
+    double totalWidth = 0;
+    for (int i = 0; i < items.size(); i++) {
+      double width = cellWidths.getOrDefault(items.get(i), estimatedWidth);
+      if (totalWidth + width > viewportStart && totalWidth < viewportEnd) {
+        if (first == -1) {
+          first = i;
+          leadingWidth = totalWidth;
+        }
+        last = i;
+        visibleWidth += width;
+      }
+      totalWidth += width;
+    }
+    setSpacerWidth(leadingSpacer, leadingWidth);
+    setSpacerWidth(trailingSpacer, totalWidth - visibleWidth - leadingWidth);
 
-      if (x1 > nodeBounds.getMinX() || x2 < nodeBounds.getMaxX()) {
-        if (strip.isAnimateScrolling()) {
-          KeyValue keyValue = new KeyValue(translateX, x);
-          KeyFrame keyFrame = new KeyFrame(strip.getAnimationDuration(), keyValue);
+    if (!virtualCellsInvalid && first == firstVisibleIndex && last == lastVisibleIndex) {
+      return;
+    }
+    virtualCellsInvalid = false;
+    firstVisibleIndex = first;
+    lastVisibleIndex = last;
+    final List<T> visibleItems =
+        first == -1 ? new ArrayList<>() : items.subList(first, last + 1);
+
+    // release the cells of items which are no longer visible
+    final Set<T> visibleItemSet = new HashSet<>(visibleItems);
+    Iterator<Map.Entry<T, StripCell<T>>> iterator = nodeMap.entrySet().iterator();
+    while (iterator.hasNext()) {
+      Map.Entry<T, StripCell<T>> entry = iterator.next();
+      if (!visibleItemSet.contains(entry.getKey())) {
+        unusedCells.push(entry.getValue());
+        iterator.remove();
+      }
+    }
 
-          Timeline timeline = new Timeline(keyFrame);
-          timeline.play();
-        } else {
-          translateX.set(x);
-        }
+    // reuse or create the cells of the visible items
+    final List<Node> children = new ArrayList<>(visibleItems.size() + 2);
+    final Set<StripCell<T>> boundCells = new HashSet<>();
+    children.add(leadingSpacer);
+    for (T item : visibleItems) {
+      StripCell<T> cell = nodeMap.get(item);
+      if (cell == null) {
+        cell = unusedCells.isEmpty() ? createCell(item) : unusedCells.pop();
+        cell.setItem(item);
+        nodeMap.put(item, cell);
+        boundCells.add(cell);
+      }
+      children.add(cell);
+    }
+    children.add(trailingSpacer);
+    updateChildren(content.getChildren(), children);
+    updateFirstChild();
+
+    // measure the visible cells, to correct the estimated widths
+    boolean widthsChanged = false;
+    double measuredWidth = 0;
+    for (T item : visibleItems) {
+      StripCell<T> cell = nodeMap.get(item);
+      if (boundCells.contains(cell)) {
+        // only cells which got a new item need to be styled before they can be measured
+        cell.applyCss();
       }
+      double width = Math.min(Math.max(cell.prefWidth(-1), cell.minWidth(-1)), cell.maxWidth(-1));
+      Double oldWidth = cellWidths.put(item, width);
+      widthsChanged |= oldWidth == null || Math.abs(oldWidth - width) > 0.5;
+      measuredWidth += width;
+    }
+    LOGGER.trace(String.format("Showing %s of %s items with a width of %s",
+        visibleItems.size(), items.size(), measuredWidth));
+
+    if (widthsChanged) {
+      // visible range and spacers may have changed with the measured widths
+      updateVirtualCells();
     }
   }
 
-  private void buildContent() {
-    nodeMap.clear();
+  private double estimateCellWidth() {
+    return cellWidths.values().stream()
+        .mapToDouble(Double::doubleValue)
+        .average()
+        .orElse(DEFAULT_CELL_WIDTH);
+  }
+
+  private void setSpacerWidth(Region spacer, double width) {
+    double spacerWidth = Math.max(0, width);
+    spacer.setMinWidth(spacerWidth);
+    spacer.setPrefWidth(spacerWidth);
+    spacer.setMaxWidth(spacerWidth);
+  }
+
+  /**
+   * Returns the bounds of the cell of an item within the content, which in virtualized mode are
+   * calculated from the measured or estimated widths of the cells.
+   */
+  private Bounds getItemBounds(T item) {
+    if (!getSkinnable().isVirtualized()) {
+      Node node = nodeMap.get(item);
+      return node == null ? null : node.localToParent(node.getLayoutBounds());
+    }
+    final double estimatedWidth = estimateCellWidth();
+    double x = 0;
+    for (T current : getSkinnable().getItems()) {
+      double width = cellWidths.getOrDefault(current, estimatedWidth);
+      if (Objects.equals(current, item)) {
+        return new BoundingBox(x, 0, width, content.getHeight());
+      }
+      x += width;
+    }
+    return null;
+  }
+
+  private void discardCell(StripCell<T> cell) {
+    // stops the cell from being notified about changes of the selection
+    cell.setSelectionStrip(null);
+  }
+
+  private StripCell<T> createCell(T item) {
     final SelectionStrip<T> strip = getSkinnable();
-    content.getChildren().setAll(strip.getItems().stream().map(item -> {
-      final StripCell<T> cell = strip.getCellFactory().call(strip);
-      nodeMap.put(item, cell);
-      cell.addEventHandler(MouseEvent.MOUSE_CLICKED, evt -> strip.setSelectedItem(item));
-      cell.setSelectionStrip(strip);
-      cell.setItem(item);
-      return cell;
-    }).collect(Collectors.toList()));
-    strip.requestLayout();
+    final StripCell<T> cell = strip.getCellFactory().call(strip);
+    cell.addEventHandler(MouseEvent.MOUSE_CLICKED, evt -> {
+      // a click which ends dragging the cell to reorder it doesn't select it
+      if (evt.isStillSincePress()) {
+        strip.setSelectedItem(cell.getItem());
+      }
+    });
+    setupDragHandlers(cell);
+    cell.setSelectionStrip(strip);
+    cell.setItem(item);
+    return cell;
+  }
+
+  /**
+   * Lets the cell follow the mouse while it's being dragged and moves its item to the position it
+   * was dropped at. Only the dragged cell gets translated while dragging, the other cells are only
+   * moved once the reordered items have been reconciled with the cells.
+   */
+  private void setupDragHandlers(StripCell<T> cell) {
+    cell.addEventHandler(MouseEvent.MOUSE_PRESSED, evt -> {
+      if (getSkinnable().isReorderable() && evt.isPrimaryButtonDown()) {
+        dragCell = cell;
+        dragStartX = evt.getSceneX();
+        dragging = false;
+      }
+    });
+    cell.addEventHandler(MouseEvent.MOUSE_DRAGGED, evt -> {
+      if (dragCell != cell) {
+        return;
+      }
+      double offset = evt.getSceneX() - dragStartX;
+      if (!dragging && Math.abs(offset) < DRAG_THRESHOLD) {
+        return;
+      }
+      dragging = true;
+      cell.pseudoClassStateChanged(DRAGGING, true);
+      cell.setTranslateX(offset);
+      evt.consume();
+    });
+    cell.addEventHandler(MouseEvent.MOUSE_RELEASED, evt -> {
+      if (dragCell != cell) {
+        return;
+      }
+      if (dragging) {
+        cell.pseudoClassStateChanged(DRAGGING, false);
+        cell.setTranslateX(0);
+        double dropX = content.sceneToLocal(evt.getSceneX(), evt.getSceneY()).getX();
+        moveItem(cell.getItem(), dropX);
+      }
+      dragCell = null;
+      dragging = false;
+    });
+  }
+
+  private void moveItem(T item, double dropX) {
+    final SelectionStrip<T> strip = getSkinnable();
+    final List<T> items = strip.getItems();
+    final double estimatedWidth = estimateCellWidth();
+
+    // the new index is the amount of other items whose center is before the drop position
+    int index = 0;
+    double x = 0;
+    for (T current : items) {
+      double width = getCellWidth(current, estimatedWidth);
+      if (!Objects.equals(current, item) && x + width / 2 < dropX) {
+        index++;
+      }
+      x += width;
+    }
+
+    if (index != items.indexOf(item) && strip.getReorderHandler() != null) {
+      LOGGER.trace("Moving " + item + " to index " + index);
+      strip.getReorderHandler().accept(item, index);
+    }
+  }
+
+  private double getCellWidth(T item, double estimatedWidth) {
+    if (getSkinnable().isVirtualized()) {
+      return cellWidths.getOrDefault(item, estimatedWidth);
+    }
+    StripCell<T> cell = nodeMap.get(item);
+    return cell == null ? 0 : cell.getWidth();
+  }
+
+  /**
+   * Brings the children into the order of the cells, by only removing, inserting or moving the
+   * children which are not at the right position yet.
+   */
+  private void updateChildren(ObservableList<Node> children, List<Node> cells) {
+    children.retainAll(new HashSet<>(cells));
+    for (int i = 0; i < cells.size(); i++) {
+      Node cell = cells.get(i);
+      if (i < children.size() && children.get(i) == cell) {
+        continue;
+      }
+      if (i + 1 < children.size() && children.get(i + 1) == cell) {
+        // the child at this position has been moved further back, insert it once it's reached
+        children.remove(i);
+        continue;
+      }
+      children.remove(cell);
+      children.add(i, cell);
+    }
+  }
+
+  /**
+   * Makes sure only the cell of the first item is styled as the first cell, since cells are being
+   * kept when the first item changes. The first cell has no background insets, otherwise the end
+   * of the strip would cut off its side.
+   */
+  private void updateFirstChild() {
+    final List<T> items = getSkinnable().getItems();
+    final T firstItem = items.isEmpty() ? null : items.get(0);
+    nodeMap.forEach((item, cell) -> {
+      List<String> styleClass = cell.getStyleClass();
+      if (Objects.equals(item, firstItem)) {
+        if (!styleClass.contains(FIRST_CHILD)) {
+          styleClass.add(FIRST_CHILD);
+        }
+      } else {
+        styleClass.remove(FIRST_CHILD);
+      }
+    });
   }
 
   private void setupListeners() {
     translateX.addListener(it -> content.setTranslateX(translateX.get()));
     getSkinnable().widthProperty().addListener(it -> fixTranslate());
     translateX.addListener(it -> fixTranslate());
+    // other cells may have been scrolled into view
+    getSkinnable().widthProperty().addListener(it -> updateVirtualCells());
+    translateX.addListener(it -> updateVirtualCells());
 
     showLeftScroll.addListener((it, oldShow, newShow) -> fadeSupport(newShow, leftFader, leftBtn));
     showRightScroll
         .addListener((it, oldShow, newShow) -> fadeSupport(newShow, rightFader, rightBtn));
+    // the scroller and fader on the right make room for the overflow button
+    overflowBtn.visibleProperty().addListener(it -> {
+      fixTranslate();
+      updateVirtualCells();
+      getSkinnable().requestLayout();
+    });
   }
 
   private void fadeSupport(Boolean newShow, Region fader, Region button) {
     if (getSkinnable().isAnimateScrolling()) {
+      double timeScale = getSkinnable().getRenderProfile().getTimeScale();
+      // interrupts the previous fade, if the fader is still fading
       if (newShow) {
         button.setVisible(true);
-        ParallelTransition parallelTransition = new ParallelTransition(
-            createFadeTransition(fader, 0, 1),
-            createFadeTransition(button, 0, 1));
-        parallelTransition.play();
+        Animations.fade(fader, 1, Animations.FADE_DURATION, timeScale, null);
+        Animations.fade(button, 1, Animations.FADE_DURATION, timeScale, null);
       } else {
-        ParallelTransition parallelTransition = new ParallelTransition(
-            createFadeTransition(fader, 1, 0),
-            createFadeTransition(button, 1, 0));
-        parallelTransition.setOnFinished(event -> button.setVisible(false));
-        parallelTransition.play();
+        Animations.fade(fader, 0, Animations.FADE_DURATION, timeScale, null);
+        Animations.fade(button, 0, Animations.FADE_DURATION, timeScale,
+            event -> button.setVisible(false));
       }
     } else {
       fader.setVisible(newShow);
@@ -162,16 +489,6 @@ public class SelectionStripSkin<T> extends SkinBase<SelectionStrip<T>> {
     }
   }
 
-  private FadeTransition createFadeTransition(Node node, double from, double to) {
-    node.setOpacity(from);
-    FadeTransition faderTransition = new FadeTransition();
-    faderTransition.setNode(node);
-    faderTransition.setFromValue(from);
-    faderTransition.setToValue(to);
-    faderTransition.setDuration(Duration.millis(200));
-    return faderTransition;
-  }
-
   private final BooleanProperty showLeftScroll =
       new SimpleBooleanProperty(this, "showLeftScroll", false);
 
@@ -182,51 +499,73 @@ public class SelectionStripSkin<T> extends SkinBase<SelectionStrip<T>> {
     showLeftScroll.bind(translateX.lessThan(0));
     showRightScroll
         .bind(translateX.add(content.widthProperty()).greaterThan(getSkinnable().widthProperty()));
+    overflowBtn.visibleProperty().bind(getSkinnable().showOverflowButtonProperty()
+        .and(showLeftScroll.or(showRightScroll)));
   }
 
   private void setupEventHandlers() {
     leftBtn.setOnMouseClicked(event -> scroll(true));
     rightBtn.setOnMouseClicked(event -> scroll(false));
+    overflowBtn.setOnMouseClicked(event -> toggleOverflowPopup());
 
     getSkinnable().addEventHandler(ScrollEvent.SCROLL,
         evt -> {
           double delta = evt.getDeltaX() == 0 ? evt.getDeltaY() : evt.getDeltaX();
-          translateX.set(translateX.get() + delta);
+          scrollAnimator.scrollBy(delta);
         });
   }
 
   private void fixTranslate() {
-    if (content.getWidth() < getSkinnable().getWidth()) {
-      translateX.set(0);
-    } else {
-      double newValue = translateX.get();
-      newValue = Math.min(newValue, 0);
-      newValue = Math.max(newValue, -(content.getWidth() - getSkinnable().getWidth()));
-      translateX.set(newValue);
+    translateX.set(clampTranslate(translateX.get()));
+  }
+
+  /**
+   * Returns the closest value to {@code value} which keeps the content within the strip.
+   */
+  private double clampTranslate(double value) {
+    final double viewportWidth = getViewportWidth();
+    if (content.getWidth() < viewportWidth) {
+      return 0;
     }
+    double newValue = Math.min(value, 0);
+    return Math.max(newValue, -(content.getWidth() - viewportWidth));
+  }
+
+  /**
+   * Returns the width in which the content is visible, which is the width of the strip without
+   * the overflow button, if it's being shown.
+   */
+  private double getViewportWidth() {
+    final double width = getSkinnable().getWidth();
+    return overflowBtn.isVisible() ? width - overflowBtn.prefWidth(-1) : width;
   }
 
-  private Timeline timeline;
   private final DoubleProperty translateX = new SimpleDoubleProperty(this, "translateX");
 
   private void scroll(boolean scrollToRight) {
-    // In case of the timeline is already playing the animation must first finish.
-    if (timeline != null && timeline.getStatus().equals(Animation.Status.RUNNING)) {
-      timeline.stop();
-    }
-
-    double scrollDistance = getSkinnable().getWidth() / 2;
+    double scrollDistance = getViewportWidth() / 2;
     double dist = scrollToRight ? scrollDistance : -scrollDistance;
+    scrollAnimator.animateBy(dist);
+  }
 
-    if (getSkinnable().isAnimateScrolling()) {
-      KeyValue keyValue = new KeyValue(translateX, translateX.get() + dist, Interpolator.EASE_BOTH);
-      KeyFrame keyFrame = new KeyFrame(Duration.millis(500), keyValue);
-
-      timeline = new Timeline(keyFrame);
-      timeline.play();
+  private void toggleOverflowPopup() {
+    if (overflowPopup == null) {
+      overflowPopup = new OverflowPopup<>(getSkinnable());
+    }
+    if (overflowPopup.isShowing()) {
+      overflowPopup.hide();
     } else {
-      translateX.set(translateX.get() + dist);
+      overflowPopup.show(overflowBtn);
+    }
+  }
+
+  @Override
+  public void dispose() {
+    scrollAnimator.stop();
+    if (overflowPopup != null) {
+      overflowPopup.hide();
     }
+    super.dispose();
   }
 
   @Override
@@ -234,20 +573,154 @@ public class SelectionStripSkin<T> extends SkinBase<SelectionStrip<T>> {
       double contentHeight) {
     content.resizeRelocate(contentX, contentY, content.prefWidth(-1), contentHeight);
 
+    final double overflowWidth = overflowBtn.isVisible() ? overflowBtn.prefWidth(-1) : 0;
+    overflowBtn.resizeRelocate(contentX + contentWidth - overflowBtn.prefWidth(-1),
+        contentY + (contentHeight - overflowBtn.prefHeight(-1)) / 2, overflowBtn.prefWidth(-1),
+        overflowBtn.prefHeight(-1));
+
     leftBtn.resizeRelocate(contentX, contentY + (contentHeight - leftBtn.prefHeight(-1)) / 2,
         leftBtn.prefWidth(-1), leftBtn.prefHeight(-1));
-    rightBtn.resizeRelocate(contentX + contentWidth - rightBtn.prefWidth(-1),
+    rightBtn.resizeRelocate(contentX + contentWidth - overflowWidth - rightBtn.prefWidth(-1),
         contentY + (contentHeight - rightBtn.prefHeight(-1)) / 2, rightBtn.prefWidth(-1),
         rightBtn.prefHeight(-1));
 
     leftFader.resizeRelocate(contentX, contentY, leftFader.prefWidth(-1), contentHeight);
-    rightFader.resizeRelocate(contentX + contentWidth - rightFader.prefWidth(-1), contentY,
-        rightFader.prefWidth(-1), contentHeight);
+    rightFader.resizeRelocate(contentX + contentWidth - overflowWidth - rightFader.prefWidth(-1),
+        contentY, rightFader.prefWidth(-1), contentHeight);
 
     @SuppressWarnings("unchecked")
     T item = (T) getSkinnable().getProperties().get(SCROLL_TO_KEY);
     if (item != null) {
-      Platform.runLater(() -> scrollTo(item));
+      // resolved on the next pulse, once the cells have been laid out
+      scrollAnimator.scrollTo(item);
+    }
+  }
+
+  /**
+   * Scrolls the content of the strip, running at most once per pulse while there is anything to
+   * scroll. All requests which arrive in between two pulses are merged: wheel deltas get summed
+   * up, only the latest item to scroll to is kept and a new animation continues from the current
+   * position towards the new target, so {@link #translateX} is only written once per pulse.
+   */
+  private final class ScrollAnimator extends AnimationTimer {
+
+    private boolean running;
+
+    private T pendingItem;
+    private double pendingDelta;
+
+    private boolean animating;
+    private double animationStart;
+    private double animationTarget;
+    private Duration animationDuration;
+    private Interpolator interpolator;
+    private long animationStartTime;
+
+    void scrollBy(double delta) {
+      pendingDelta += delta;
+      ensureRunning();
+    }
+
+    void animateBy(double distance) {
+      // consecutive clicks add up instead of restarting from the current position
+      double from = animating ? animationTarget : translateX.get();
+      if (getSkinnable().isAnimateScrolling()) {
+        animate(from + distance, SCROLL_DURATION, Interpolator.EASE_BOTH);
+      } else {
+        scrollBy(from + distance - translateX.get());
+      }
+    }
+
+    void scrollTo(T item) {
+      pendingItem = item;
+      ensureRunning();
+    }
+
+    private void animate(double target, Duration duration, Interpolator interpolator) {
+      double timeScale = getSkinnable().getRenderProfile().getTimeScale();
+      if (timeScale <= 0) {
+        // animations are turned off, jump to the target without waiting for the next pulses
+        animating = false;
+        translateX.set(clampTranslate(target));
+        return;
+      }
+      animating = true;
+      animationTarget = target;
+      animationDuration = duration.multiply(timeScale);
+      this.interpolator = interpolator;
+      // the start gets set on the next pulse
+      animationStartTime = -1;
+      ensureRunning();
+    }
+
+    private void ensureRunning() {
+      if (!running) {
+        running = true;
+        start();
+      }
+    }
+
+    @Override
+    public void stop() {
+      super.stop();
+      running = false;
+      animating = false;
+      pendingItem = null;
+      pendingDelta = 0;
+    }
+
+    @Override
+    public void handle(long now) {
+      if (pendingItem != null) {
+        resolveScrollTo(pendingItem);
+        pendingItem = null;
+      }
+
+      double value = translateX.get();
+      if (pendingDelta != 0) {
+        // scrolling by the user takes over from a running animation
+        value += pendingDelta;
+        pendingDelta = 0;
+        animating = false;
+      } else if (animating) {
+        if (animationStartTime == -1) {
+          animationStartTime = now;
+          animationStart = value;
+        }
+        double durationNanos = Math.max(1, animationDuration.toMillis() * 1_000_000);
+        double fraction = Math.min(1, (now - animationStartTime) / durationNanos);
+        value = interpolator.interpolate(animationStart, animationTarget, fraction);
+        animating = fraction < 1;
+      }
+      translateX.set(clampTranslate(value));
+
+      if (!animating && pendingItem == null && pendingDelta == 0) {
+        stop();
+      }
+    }
+
+    private void resolveScrollTo(T item) {
+      final Bounds nodeBounds = getItemBounds(item);
+      if (nodeBounds == null) {
+        // the next layout pass will request to scroll to the item again
+        return;
+      }
+      SelectionStrip<T> strip = getSkinnable();
+      strip.getProperties().remove(SCROLL_TO_KEY);
+
+      final double viewportWidth = getViewportWidth();
+      final double x = -nodeBounds.getMinX() + viewportWidth / 2 - nodeBounds.getWidth() / 2;
+      final double x1 = -translateX.get();
+      final double x2 = x1 + viewportWidth;
+
+      if (x1 > nodeBounds.getMinX() || x2 < nodeBounds.getMaxX()) {
+        if (strip.isAnimateScrolling()) {
+          animate(x, strip.getAnimationDuration(), Interpolator.LINEAR);
+        } else {
+          // jumps to the item with the update of this pulse
+          pendingDelta = x - translateX.get();
+        }
+      }
     }
   }
 }
@@ -1,7 +1,7 @@
 package com.dlsc.workbenchfx.view.controls.selectionstrip;
 
-import javafx.beans.InvalidationListener;
-import javafx.beans.WeakInvalidationListener;
+import com.dlsc.workbenchfx.util.SelectionDispatcher;
+import java.util.function.Consumer;
 import javafx.beans.property.BooleanProperty;
 import javafx.beans.property.BooleanPropertyBase;
 import javafx.beans.property.ObjectProperty;
@@ -14,10 +14,10 @@ public class StripCell<T> extends Label {
 
   private static final PseudoClass PSEUDO_CLASS_SELECTED = PseudoClass.getPseudoClass("selected");
 
-  private final InvalidationListener selectionListener = it -> updateSelection();
+  // only referenced weakly by the dispatcher, needs to be kept for as long as the cell exists
+  private final Consumer<Boolean> selectionListener = this::setSelected;
 
-  private final WeakInvalidationListener weakSelectionListener = new WeakInvalidationListener(
-      selectionListener);
+  private SelectionDispatcher<T> selectionDispatcher;
 
   /**
    * Constructs a new {@link StripCell}.
@@ -28,18 +28,25 @@ public class StripCell<T> extends Label {
     setMaxHeight(Double.MAX_VALUE);
 
     selectionStripProperty().addListener((it, oldStrip, newStrip) -> {
-      if (oldStrip != null) {
-        oldStrip.selectedItemProperty().removeListener(weakSelectionListener);
+      if (selectionDispatcher != null) {
+        selectionDispatcher.unregister(getItem(), selectionListener);
+        selectionDispatcher = null;
       }
 
       if (newStrip != null) {
-        newStrip.selectedItemProperty().addListener(weakSelectionListener);
+        // only gets notified when the selection changes from or to the item of this cell
+        selectionDispatcher = SelectionDispatcher.of(newStrip.selectedItemProperty());
+        selectionDispatcher.register(getItem(), selectionListener);
         updateSelection();
       }
     });
 
-    itemProperty().addListener(it -> {
-      setText(getItem().toString());
+    itemProperty().addListener((it, oldItem, newItem) -> {
+      if (selectionDispatcher != null) {
+        selectionDispatcher.unregister(oldItem, selectionListener);
+        selectionDispatcher.register(newItem, selectionListener);
+      }
+      setText(newItem.toString());
       updateSelection();
     });
   }
@@ -3,10 +3,11 @@ package com.dlsc.workbenchfx.view.controls.selectionstrip;
 import com.dlsc.workbenchfx.Workbench;
 import com.dlsc.workbenchfx.model.WorkbenchModule;
 import com.dlsc.workbenchfx.view.controls.module.Tab;
+import java.util.Objects;
 
 public class TabCell extends StripCell<WorkbenchModule> {
 
-  private static final String FIRST_CHILD = "first-child";
+  private Tab tab;
 
   /**
    * Constructs a new {@link TabCell}.
@@ -16,19 +17,28 @@ public class TabCell extends StripCell<WorkbenchModule> {
     itemProperty().addListener(it -> {
       // Remove text which was set in the listener of StripCell
       setText("");
-      // Create Tab
-      Workbench workbench = getItem().getWorkbench();
-      Tab tab = workbench.getTabFactory().call(workbench);
+      // Create the Tab only once and reuse it when the cell gets a new item
+      if (Objects.isNull(tab)) {
+        Workbench workbench = getItem().getWorkbench();
+        tab = workbench.getTabFactory().call(workbench);
+        setGraphic(tab);
+      }
       tab.setModule(getItem());
-      setGraphic(tab);
-
-      /*
-        To remove the background-insets from this cell.
-        Otherwise the SelectionStrip's end would cut off the side.
-       */
-      if (getSelectionStrip().getItems().get(0).equals(getItem())) {
-        getStyleClass().add(FIRST_CHILD);
+    });
+    selectionStripProperty().addListener((observable, oldStrip, newStrip) -> {
+      // the cell is being discarded by the strip
+      if (Objects.isNull(newStrip) && !Objects.isNull(tab)) {
+        tab.dispose();
       }
     });
   }
+
+  /**
+   * Returns the {@link Tab} which represents the item of this cell.
+   *
+   * @return the {@link Tab} or null, if no item has been set yet
+   */
+  public final Tab getTab() {
+    return tab;
+  }
 }
@@ -5,6 +5,8 @@ import com.dlsc.workbenchfx.model.WorkbenchDialog.Type
 import com.dlsc.workbenchfx.testing.MockDialogControl
 import com.dlsc.workbenchfx.view.controls.MultilineLabel
 import com.dlsc.workbenchfx.view.controls.dialog.DialogControl
+import javafx.beans.InvalidationListener
+import javafx.beans.value.ChangeListener
 import javafx.event.Event
 import javafx.event.EventHandler
 import javafx.scene.Scene
@@ -199,6 +201,43 @@ class WorkbenchDialogSpec extends ApplicationSpec {
         details2 == dialog.getDetails()
     }
 
+    def "Details property is invalidated when the exception changes"() {
+        given:
+        Exception exception = Mock(Exception.class)
+        Exception exception2 = Mock(Exception.class)
+        String details = "Stacktrace of Exception"
+        String details2 = "Another " + details
+        setupMockException(exception, details)
+        setupMockException(exception2, details2)
+        dialog = WorkbenchDialog.builder(TITLE, content, TYPE)
+                .exception(exception)
+                .build()
+        List<String> changes = []
+        dialog.detailsProperty().addListener({ observable, oldValue, newValue ->
+            changes.add(newValue)
+        } as ChangeListener)
+        int invalidations = 0
+        dialog.detailsProperty().addListener({ observable ->
+            invalidations++
+        } as InvalidationListener)
+
+        when: "Dialog's exception object is changed"
+        dialog.setException(exception2)
+
+        then: "Listeners are notified about the stacktrace of the new exception"
+        1 == invalidations
+        [details2] == changes
+        details2 == dialog.getDetails()
+
+        when: "Details are set explicitly"
+        dialog.setDetails(details)
+
+        then: "Details replace the stacktrace"
+        2 == invalidations
+        [details2, details] == changes
+        details == dialog.getDetails()
+    }
+
     def setupMockException(Exception mock, String details) {
         1 * mock.printStackTrace((PrintWriter) _) >> { arguments ->
             PrintWriter printWriter = arguments[0] // capture PrintWriter that was used in the call
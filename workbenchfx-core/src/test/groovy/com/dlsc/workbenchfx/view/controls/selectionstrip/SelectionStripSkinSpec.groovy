@@ -0,0 +1,340 @@
+package com.dlsc.workbenchfx.view.controls.selectionstrip
+
+import com.dlsc.workbenchfx.util.RenderProfile
+import javafx.beans.InvalidationListener
+import javafx.scene.Node
+import javafx.scene.Scene
+import javafx.scene.control.ListView
+import javafx.scene.control.TextField
+import javafx.scene.input.KeyCode
+import javafx.scene.input.KeyEvent
+import javafx.scene.input.ScrollEvent
+import javafx.scene.layout.HBox
+import javafx.stage.Stage
+import org.testfx.api.FxRobot
+import org.testfx.framework.spock.ApplicationSpec
+import spock.util.concurrent.PollingConditions
+
+class SelectionStripSkinSpec extends ApplicationSpec {
+
+    private SelectionStrip<String> selectionStrip
+    private FxRobot robot
+    private int createdCells
+    private PollingConditions conditions = new PollingConditions(timeout: 5)
+
+    @Override
+    void start(Stage stage) throws Exception {
+        selectionStrip = new SelectionStrip<>()
+        createdCells = 0
+        selectionStrip.setCellFactory({ strip ->
+            createdCells++
+            return new StripCell<String>()
+        })
+        selectionStrip.getItems().setAll("A", "B", "C")
+        robot = new FxRobot()
+
+        Scene scene = new Scene(selectionStrip, 100, 100)
+        stage.setScene(scene)
+        stage.show()
+    }
+
+    private List<Node> getCells() {
+        HBox content = selectionStrip.getChildrenUnmodifiable().get(0) as HBox
+        return new ArrayList<>(content.getChildren())
+    }
+
+    def "initially creates a cell for each item"() {
+        expect:
+        3 == createdCells
+        ["A", "B", "C"] == cells.collect { (it as StripCell<String>).getItem() }
+        cells.get(0).getStyleClass().contains("first-child")
+    }
+
+    def "adding an item only creates a cell for the new item"() {
+        given:
+        List<Node> oldCells = cells
+
+        when:
+        robot.interact {
+            selectionStrip.getItems().add("D")
+        }
+
+        then:
+        4 == createdCells
+        oldCells.every { cells.contains(it) }
+        ["A", "B", "C", "D"] == cells.collect { (it as StripCell<String>).getItem() }
+    }
+
+    def "removing an item keeps the cells of the other items"() {
+        given:
+        List<Node> oldCells = cells
+
+        when:
+        robot.interact {
+            selectionStrip.getItems().remove("A")
+        }
+
+        then:
+        3 == createdCells
+        [oldCells.get(1), oldCells.get(2)] == cells
+        cells.get(0).getStyleClass().contains("first-child")
+        !oldCells.get(0).getStyleClass().contains("first-child")
+    }
+
+    def "moving an item moves its cell"() {
+        given:
+        List<Node> oldCells = cells
+
+        when:
+        robot.interact {
+            selectionStrip.getItems().setAll("C", "A", "B")
+        }
+
+        then:
+        3 == createdCells
+        [oldCells.get(2), oldCells.get(0), oldCells.get(1)] == cells
+    }
+
+    def "reordering an item moves its cell without creating new cells"() {
+        given:
+        List<Node> oldCells = cells
+
+        when:
+        robot.interact {
+            selectionStrip.getReorderHandler().accept("A", 2)
+        }
+
+        then:
+        ["B", "C", "A"] == selectionStrip.getItems()
+        3 == createdCells
+        [oldCells.get(1), oldCells.get(2), oldCells.get(0)] == cells
+        cells.get(0).getStyleClass().contains("first-child")
+    }
+
+    def "clicking a cell selects its item"() {
+        when:
+        robot.interact {
+            selectionStrip.getItems().setAll("C", "A", "B")
+        }
+        robot.clickOn(cells.get(0))
+
+        then:
+        "C" == selectionStrip.getSelectedItem()
+    }
+
+    def "dragging a cell to reorder it doesn't select its item"() {
+        given:
+        Object selectedItem = selectionStrip.getSelectedItem()
+        Node cell = cells.get(0)
+
+        when:
+        robot.drag(cell).moveBy(cell.getLayoutBounds().getWidth() * 3, 0).drop()
+
+        then:
+        "A" == selectionStrip.getItems().get(2)
+        selectedItem == selectionStrip.getSelectedItem()
+    }
+
+    def "virtualized strip only creates cells for the visible items"() {
+        when:
+        robot.interact {
+            selectionStrip.setVirtualized(true)
+            selectionStrip.getItems().setAll((1..100).collect { "Item " + it })
+            selectionStrip.layout()
+        }
+        robot.interact {
+            selectionStrip.layout()
+        }
+
+        then: "only the visible cells and the spacers are part of the content"
+        List<StripCell<String>> stripCells = cells.findAll { it instanceof StripCell } as List
+        stripCells.size() > 0
+        stripCells.size() < 100
+        "Item 1" == stripCells.get(0).getItem()
+        stripCells.get(0).getStyleClass().contains("first-child")
+    }
+
+    def "virtualized strip reuses cells when scrolling"() {
+        given:
+        robot.interact {
+            selectionStrip.setVirtualized(true)
+            selectionStrip.getItems().setAll((1..100).collect { "Item " + it })
+            selectionStrip.layout()
+        }
+        robot.interact {
+            selectionStrip.layout()
+        }
+        int cellsBeforeScrolling = createdCells
+
+        when: "scrolling to the last item"
+        robot.interact {
+            selectionStrip.setAnimateScrolling(false)
+            selectionStrip.setSelectedItem("Item 100")
+        }
+
+        then: "the last item is shown in a reused cell"
+        conditions.eventually {
+            robot.interact {
+                selectionStrip.layout()
+            }
+            List<StripCell<String>> stripCells = cells.findAll { it instanceof StripCell } as List
+            assert stripCells.any { it.getItem() == "Item 100" }
+            assert !stripCells.any { it.getItem() == "Item 1" }
+            assert createdCells < 100
+            assert createdCells - cellsBeforeScrolling <= stripCells.size()
+        }
+    }
+
+    def "virtualized strip only updates its cells when the visible range changes"() {
+        given:
+        HBox content = selectionStrip.getChildrenUnmodifiable().get(0) as HBox
+        robot.interact {
+            selectionStrip.setVirtualized(true)
+            selectionStrip.getItems().setAll((1..100).collect { "Item " + it })
+            selectionStrip.layout()
+        }
+        int childrenChanges = 0
+        content.getChildren().addListener({ childrenChanges++ } as InvalidationListener)
+
+        when: "laying out the strip again"
+        robot.interact {
+            selectionStrip.requestLayout()
+            selectionStrip.layout()
+        }
+
+        then: "the cells are kept as they are"
+        0 == childrenChanges
+
+        when: "scrolling by a pixel, which doesn't bring any other item into view"
+        robot.interact {
+            selectionStrip.setAnimateScrolling(false)
+            content.fireEvent(new ScrollEvent(ScrollEvent.SCROLL, 0, 0, 0, 0,
+                    false, false, false, false, false, false, -1, 0, 0, 0,
+                    ScrollEvent.HorizontalTextScrollUnits.NONE, 0,
+                    ScrollEvent.VerticalTextScrollUnits.NONE, 0, 0, null))
+        }
+
+        then:
+        conditions.eventually {
+            assert content.getTranslateX() == -1
+        }
+        0 == childrenChanges
+    }
+
+    def "scroll requests in between two pulses are merged into one update"() {
+        given:
+        HBox content = selectionStrip.getChildrenUnmodifiable().get(0) as HBox
+        robot.interact {
+            selectionStrip.setAnimateScrolling(false)
+            selectionStrip.getItems().setAll((1..100).collect { "Item " + it })
+            selectionStrip.layout()
+        }
+        int updates = 0
+        content.translateXProperty().addListener({ updates++ } as InvalidationListener)
+
+        when: "selecting multiple items at once"
+        robot.interact {
+            selectionStrip.setSelectedItem("Item 50")
+            selectionStrip.setSelectedItem("Item 80")
+            selectionStrip.setSelectedItem("Item 100")
+        }
+
+        then: "only the last item gets scrolled to, with a single update"
+        Node overflowButton = selectionStrip.lookup(".overflow-button")
+        conditions.eventually {
+            assert !selectionStrip.getProperties().containsKey("scroll.to")
+            // the last item isn't hidden behind the overflow button
+            assert content.getTranslateX() == -(content.getWidth()
+                    - (selectionStrip.getWidth() - overflowButton.prefWidth(-1)))
+        }
+        1 == updates
+    }
+
+    def "scrolling without animations jumps to the target right away"() {
+        given:
+        HBox content = selectionStrip.getChildrenUnmodifiable().get(0) as HBox
+        Node rightScroller = selectionStrip.lookup(".scroller.right")
+        robot.interact {
+            selectionStrip.setRenderProfile(RenderProfile.MINIMAL)
+            selectionStrip.getItems().setAll((1..100).collect { "Item " + it })
+            selectionStrip.layout()
+        }
+
+        when:
+        robot.interact {
+            rightScroller.getOnMouseClicked().handle(null)
+        }
+
+        then: "the content has been scrolled without waiting for a pulse"
+        content.getTranslateX() < 0
+    }
+
+    def "overflow button is only shown when the items don't fit into the strip"() {
+        given:
+        Node overflowButton = selectionStrip.lookup(".overflow-button")
+
+        expect:
+        !overflowButton.isVisible()
+
+        when:
+        robot.interact {
+            selectionStrip.getItems().setAll((1..100).collect { "Item " + it })
+            selectionStrip.layout()
+        }
+
+        then:
+        overflowButton.isVisible()
+
+        when:
+        robot.interact {
+            selectionStrip.setShowOverflowButton(false)
+        }
+
+        then:
+        !overflowButton.isVisible()
+    }
+
+    def "overflow popup lists and filters the items only while it is showing"() {
+        given:
+        OverflowPopup<String> popup
+        robot.interact {
+            selectionStrip.getItems().setAll((1..100).collect { "Item " + it })
+            selectionStrip.layout()
+            popup = new OverflowPopup<>(selectionStrip)
+        }
+
+        expect: "the content is only built when the popup is shown"
+        null == popup.getSkin()
+
+        when:
+        robot.interact {
+            popup.show(selectionStrip.lookup(".overflow-button"))
+        }
+        ListView<String> listView = popup.getSkin().getNode().lookup(".overflow-list") as ListView
+        TextField searchField = popup.getSkin().getNode().lookup(".search-field") as TextField
+
+        then:
+        100 == listView.getItems().size()
+
+        when:
+        robot.interact {
+            searchField.setText("item 10")
+        }
+
+        then:
+        ["Item 10", "Item 100"] == listView.getItems()
+
+        when: "selecting an item"
+        robot.interact {
+            listView.getSelectionModel().select("Item 100")
+            listView.fireEvent(new KeyEvent(KeyEvent.KEY_PRESSED, "", "", KeyCode.ENTER,
+                    false, false, false, false))
+        }
+
+        then: "it gets selected in the strip and the items are released"
+        "Item 100" == selectionStrip.getSelectedItem()
+        !popup.isShowing()
+        null == listView.getItems()
+        searchField.getText().isEmpty()
+    }
+}
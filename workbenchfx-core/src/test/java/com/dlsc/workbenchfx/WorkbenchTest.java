@@ -6,6 +6,7 @@ import static org.awaitility.Awaitility.await;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -30,19 +31,27 @@ import com.dlsc.workbenchfx.testing.MockNavigationDrawer;
 import com.dlsc.workbenchfx.testing.MockPage;
 import com.dlsc.workbenchfx.testing.MockTab;
 import com.dlsc.workbenchfx.testing.MockTile;
+import com.dlsc.workbenchfx.util.RenderProfile;
 import com.dlsc.workbenchfx.view.controls.GlassPane;
 import com.dlsc.workbenchfx.view.controls.NavigationDrawer;
 import com.dlsc.workbenchfx.view.controls.ToolbarItem;
 import com.dlsc.workbenchfx.view.controls.dialog.DialogControl;
+import com.dlsc.workbenchfx.view.controls.selectionstrip.TabCell;
 import de.jensd.fx.glyphs.fontawesome.FontAwesomeIcon;
 import de.jensd.fx.glyphs.fontawesome.FontAwesomeIconView;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
+import java.util.function.Supplier;
 import javafx.beans.property.BooleanProperty;
 import javafx.beans.property.ReadOnlyObjectProperty;
 import javafx.beans.property.SimpleBooleanProperty;
 import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import javafx.collections.ObservableMap;
 import javafx.event.EventHandler;
@@ -62,6 +71,7 @@ import javafx.scene.layout.StackPane;
 import javafx.scene.layout.VBox;
 import javafx.stage.Stage;
 import javafx.stage.WindowEvent;
+import javafx.util.Duration;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
@@ -743,6 +753,41 @@ class WorkbenchTest extends ApplicationTest {
     });
   }
 
+  @Test
+  void moveModule() {
+    robot.interact(() -> {
+      workbench.openModule(first);
+      workbench.openModule(second);
+      workbench.openModule(last);
+      ObservableList<WorkbenchModule> openModules = workbench.getOpenModules();
+      List<Boolean> permutations = new ArrayList<>();
+      openModules.addListener((ListChangeListener<WorkbenchModule>) c -> {
+        while (c.next()) {
+          permutations.add(c.wasPermutated());
+        }
+      });
+
+      workbench.moveModule(first, 2);
+      assertEquals(Arrays.asList(second, last, first), openModules);
+      workbench.moveModule(first, 0);
+      assertEquals(Arrays.asList(first, second, last), openModules);
+      // moving a module to its current index doesn't change anything
+      workbench.moveModule(first, 0);
+      // the tabs only get moved, since the modules have been permutated
+      assertEquals(Arrays.asList(true, true), permutations);
+      // active module stays the same
+      assertSame(last, workbench.getActiveModule());
+    });
+  }
+
+  @Test
+  void moveModuleInvalid() {
+    robot.interact(() -> {
+      assertThrows(NullPointerException.class, () -> workbench.moveModule(null, 0));
+      assertThrows(IllegalArgumentException.class, () -> workbench.moveModule(first, 0));
+    });
+  }
+
   @Test
   void closeInactiveModule() {
     robot.interact(() -> {
@@ -863,11 +908,12 @@ class WorkbenchTest extends ApplicationTest {
       assertTrue(overlay1.isVisible()); // overlay1 has been made visible
       GlassPane glassPane = overlays.get(overlay1).getGlassPane();
       assertFalse(glassPane.isHide());
-      assertNull(glassPane.onMouseClickedProperty().get()); // no closing handler has been attached
+      simulateGlassPaneClick(overlay1);
+      assertTrue(overlay1.isVisible()); // blocking overlay doesn't get closed
 
-      // test visibility binding to GlassPane
+      // glass pane follows the overlays being shown, not their visibility
       overlay1.setVisible(false);
-      assertTrue(glassPane.isHide());
+      assertFalse(glassPane.isHide());
 
       // test if calling showOverlay again, even though it's already showing, does anything
       workbench.showOverlay(overlay1, true);
@@ -896,9 +942,9 @@ class WorkbenchTest extends ApplicationTest {
       assertFalse(glassPane.isHide());
       assertNotNull(glassPane.onMouseClickedProperty().get()); // closing handler has been attached
 
-      // test visibility binding to GlassPane
+      // glass pane follows the overlays being shown, not their visibility
       overlay1.setVisible(false);
-      assertTrue(glassPane.isHide());
+      assertFalse(glassPane.isHide());
 
       // test if calling showOverlay again, even though it's already showing, does anything
       workbench.showOverlay(overlay1, false);
@@ -925,18 +971,29 @@ class WorkbenchTest extends ApplicationTest {
       assertEquals(1, overlaysShown.size());
       assertTrue(overlay1.isVisible()); // overlay1 has been made visible
       assertTrue(overlay2.isVisible()); // overlay2 has been made visible
-      GlassPane glassPane1 = overlays.get(overlay1).getGlassPane();
-      assertFalse(glassPane1.isHide());
-      assertNotNull(glassPane1.onMouseClickedProperty().get()); // closing handler has been attached
-      GlassPane glassPane2 = overlays.get(overlay2).getGlassPane();
-      assertFalse(glassPane2.isHide());
-      assertNull(glassPane2.onMouseClickedProperty().get()); // no closing handler has been attached
-
-      // test visibility binding to GlassPane
+      // all overlays share the same glass pane
+      GlassPane glassPane = overlays.get(overlay1).getGlassPane();
+      assertSame(glassPane, overlays.get(overlay2).getGlassPane());
+      assertFalse(glassPane.isHide());
+      assertNotNull(glassPane.onMouseClickedProperty().get()); // closing handler has been attached
+
+      // glass pane is stacked directly below the top-most overlay
+      List<Node> children = glassPane.getParent().getChildrenUnmodifiable();
+      assertEquals(children.indexOf(overlay2) - 1, children.indexOf(glassPane));
+
+      // clicking on the glass pane doesn't close the non-blocking overlay below a blocking one
+      simulateGlassPaneClick(overlay1);
+      assertEquals(1, overlaysShown.size());
+
+      // glass pane moves below the next overlay when the top-most overlay gets hidden
+      workbench.hideOverlay(overlay2);
+      assertFalse(glassPane.isHide());
+      assertEquals(children.indexOf(overlay1) - 1, children.indexOf(glassPane));
+      workbench.showOverlay(overlay2, true);
+      assertEquals(children.indexOf(overlay2) - 1, children.indexOf(glassPane));
+
       overlay1.setVisible(false);
-      assertTrue(glassPane1.isHide());
       overlay2.setVisible(false);
-      assertTrue(glassPane2.isHide());
 
       // test if calling showOverlay again, even though it's already showing, does anything
       workbench.showOverlay(overlay1, false);
@@ -1131,6 +1188,80 @@ class WorkbenchTest extends ApplicationTest {
     });
   }
 
+  /**
+   * Precondition: hideOverlay tests pass.
+   */
+  @Test
+  void hideOverlayMaxHiddenOverlays() {
+    robot.interact(() -> {
+      workbench.setMaxHiddenOverlays(1);
+      workbench.showOverlay(overlay1, false);
+      workbench.showOverlay(overlay2, true);
+      workbench.showOverlay(overlay3, false);
+
+      workbench.hideOverlay(overlay1);
+      assertEquals(3, overlays.size()); // still loaded
+
+      // least recently hidden overlay gets removed
+      workbench.hideOverlay(overlay2);
+      assertEquals(2, overlays.size());
+      assertFalse(overlays.containsKey(overlay1));
+
+      // showing an overlay again doesn't count it as hidden anymore
+      workbench.showOverlay(overlay2, true);
+      workbench.hideOverlay(overlay3);
+      assertEquals(2, overlays.size());
+      assertTrue(overlays.containsKey(overlay2));
+
+      // removed overlays can be shown again
+      assertTrue(workbench.showOverlay(overlay1, false));
+      assertEquals(3, overlays.size());
+      assertTrue(overlay1.isVisible());
+
+      // decreasing the maximum removes overlays exceeding it
+      workbench.setMaxHiddenOverlays(0);
+      assertEquals(2, overlays.size());
+      assertFalse(overlays.containsKey(overlay3));
+    });
+  }
+
+  /**
+   * Precondition: hideOverlay tests pass.
+   */
+  @Test
+  void hideOverlayTimeout() {
+    robot.interact(() -> {
+      workbench.setHiddenOverlayTimeout(Duration.millis(100));
+      workbench.showOverlay(overlay1, false);
+      workbench.showOverlay(overlay2, false);
+      workbench.hideOverlay(overlay1);
+      assertEquals(2, overlays.size()); // still loaded
+    });
+
+    await().atMost(5, TimeUnit.SECONDS).until(() -> !overlays.containsKey(overlay1));
+    // overlay which is being shown stays loaded
+    assertTrue(overlays.containsKey(overlay2));
+  }
+
+  /**
+   * Precondition: hideOverlay tests pass.
+   */
+  @Test
+  void hideOverlayMaxHiddenOverlaysSlidingOut() {
+    robot.interact(() -> {
+      workbench.setMaxHiddenOverlays(0);
+      workbench.showDrawer(drawer, Side.LEFT);
+      workbench.hideDrawer();
+
+      // the drawer stays loaded while it is sliding out
+      assertTrue(overlays.get(drawer).isAnimated());
+      assertTrue(overlays.containsKey(drawer));
+    });
+
+    // and gets removed once it has finished sliding out
+    await().atMost(5, TimeUnit.SECONDS).until(() -> !overlays.containsKey(drawer));
+  }
+
   @Test
   void showNavigationDrawer() {
     robot.interact(() -> {
@@ -1653,6 +1784,55 @@ class WorkbenchTest extends ApplicationTest {
     });
   }
 
+  @Test
+  @DisplayName("Reuse the DialogControl of a hidden dialog for the next dialog of the same type")
+  void showDialogPooled() {
+    robot.interact(() -> {
+      WorkbenchDialog first = workbench.showInformationDialog("Title", "Message", null);
+      DialogControl firstControl = first.getDialogControl();
+      workbench.hideDialog(first);
+
+      WorkbenchDialog second = workbench.showInformationDialog("Title 2", "Message 2", null);
+      assertSame(firstControl, second.getDialogControl());
+      assertSame(second, firstControl.getDialog());
+      assertEquals(1, overlays.size());
+      assertTrue(firstControl.isVisible());
+
+      // dialogs of another type don't share their controls
+      WorkbenchDialog error = workbench.showErrorDialog("Error", "Message", null);
+      assertNotSame(firstControl, error.getDialogControl());
+
+      // showing a dialog again, after its control has been reused, uses another control
+      workbench.showDialog(first);
+      assertNotSame(firstControl, first.getDialogControl());
+      assertSame(first, first.getDialogControl().getDialog());
+      assertSame(second, firstControl.getDialog());
+    });
+  }
+
+  @Test
+  @DisplayName("Hiding a dialog twice doesn't hide the dialog its control has been reused for")
+  void hideDialogTwice() {
+    robot.interact(() -> {
+      WorkbenchDialog first = workbench.showInformationDialog("Title", "Message", null);
+      DialogControl firstControl = first.getDialogControl();
+      workbench.hideDialog(first);
+
+      WorkbenchDialog second = workbench.showInformationDialog("Title 2", "Message 2", null);
+      assertSame(firstControl, second.getDialogControl());
+
+      workbench.hideDialog(first);
+      assertSame(second, firstControl.getDialog());
+      assertSame(workbench, firstControl.getWorkbench());
+      assertTrue(workbench.getNonBlockingOverlaysShown().contains(firstControl));
+
+      // the control is still leased to the second dialog
+      WorkbenchDialog third = workbench.showInformationDialog("Title 3", "Message 3", null);
+      assertNotSame(firstControl, third.getDialogControl());
+      assertEquals(2, workbench.getNonBlockingOverlaysShown().size());
+    });
+  }
+
   private void assertDialogShown(WorkbenchDialog result, boolean blocking) {
     verify(result).getDialogControl();
     assertSame(mockDialog, result);
@@ -1862,5 +2042,127 @@ class WorkbenchTest extends ApplicationTest {
     });
   }
 
+  @Test
+  void showDrawerSupplier() {
+    robot.interact(() -> {
+      // given
+      AtomicInteger built = new AtomicInteger();
+      Supplier<Region> drawerSupplier = () -> {
+        built.incrementAndGet();
+        return new Label();
+      };
+
+      // when: drawer is shown
+      workbench.showDrawer(drawerSupplier, Side.LEFT);
+
+      // then: drawer is built
+      assertEquals(1, built.get());
+      Region drawer = workbench.getDrawerShown();
+      assertNotNull(drawer);
+
+      // when: drawer is shown again
+      workbench.hideDrawer();
+      workbench.showDrawer(drawerSupplier, Side.LEFT, 33);
+
+      // then: drawer is reused
+      assertEquals(1, built.get());
+      assertSame(drawer, workbench.getDrawerShown());
+
+      // when: drawer is shown on another side
+      workbench.showDrawer(drawerSupplier, Side.RIGHT);
+
+      // then: another drawer is built for this side
+      assertEquals(2, built.get());
+      assertNotSame(drawer, workbench.getDrawerShown());
+
+      // when: overlays are cleared
+      workbench.hideDrawer();
+      workbench.clearOverlays();
+      workbench.showDrawer(drawerSupplier, Side.LEFT);
+
+      // then: drawer is built again
+      assertEquals(3, built.get());
+      assertNotSame(drawer, workbench.getDrawerShown());
+    });
+  }
+
+  @Test
+  void showDrawerSupplierInputValidation() {
+    Supplier<Region> drawerSupplier = mock(Supplier.class);
+    robot.interact(() -> {
+      assertThrows(IllegalArgumentException.class,
+          () -> workbench.showDrawer(drawerSupplier, Side.LEFT, 101));
+      // drawer isn't built if the input is invalid
+      verify(drawerSupplier, never()).get();
+    });
+  }
+
+  @Test
+  void dragTabToReorder() {
+    robot.interact(() -> {
+      workbench.getScene().getWindow().setWidth(800);
+      workbench.openModule(first);
+      workbench.openModule(second);
+      workbench.openModule(last);
+      workbench.openModule(second);
+      robot.lookup(node -> node instanceof TabCell).queryAll()
+          .forEach(cell -> ((TabCell) cell).setPrefWidth(150));
+      workbench.layout();
+    });
+    TabCell firstCell = robot.lookup(
+        node -> node instanceof TabCell && ((TabCell) node).getItem() == first).query();
+
+    // when: dragging the tab of the first module behind the last module
+    robot.drag(firstCell, MouseButton.PRIMARY).moveBy(400, 0).drop();
+
+    // then: the module has been moved, without opening it
+    robot.interact(() -> {
+      assertEquals(2, workbench.getOpenModules().indexOf(first));
+      assertSame(second, workbench.getActiveModule());
+    });
+  }
+
+  @Test
+  void renderProfile() {
+    robot.interact(() -> {
+      // given
+      assertEquals(RenderProfile.FULL, workbench.getRenderProfile());
+      workbench.showDialog(
+          WorkbenchDialog.builder("Title", "Message", WorkbenchDialog.Type.INFORMATION).build());
+      workbench.applyCss();
+      Node dialogPane = workbench.lookup(".dialog-pane");
+      assertNotNull(dialogPane);
+      assertNotNull(dialogPane.getEffect());
+
+      // when:
+      workbench.setRenderProfile(RenderProfile.REDUCED);
+      workbench.applyCss();
+
+      // then: the drop shadows of the stylesheet are removed
+      assertNull(dialogPane.getEffect());
+
+      // when:
+      workbench.setRenderProfile(RenderProfile.FULL);
+      workbench.applyCss();
+
+      // then:
+      assertNotNull(dialogPane.getEffect());
+    });
+  }
+
+  @Test
+  void renderProfileMinimal() {
+    robot.interact(() -> {
+      // when:
+      workbench.setRenderProfile(RenderProfile.MINIMAL);
+      workbench.showOverlay(overlay1, false);
+
+      // then: the glass pane is shown without being blended
+      GlassPane glassPane = overlays.get(overlay1).getGlassPane();
+      assertEquals(RenderProfile.MINIMAL, glassPane.getRenderProfile());
+      assertFalse(glassPane.isHide());
+      assertTrue(glassPane.isVisible());
+    });
+  }
 
 }
@@ -0,0 +1,121 @@
+package com.dlsc.workbenchfx.util;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.util.concurrent.TimeUnit;
+import javafx.animation.TranslateTransition;
+import javafx.event.ActionEvent;
+import javafx.event.EventHandler;
+import javafx.scene.CacheHint;
+import javafx.scene.Scene;
+import javafx.scene.layout.Region;
+import javafx.scene.layout.StackPane;
+import javafx.stage.Stage;
+import javafx.util.Duration;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.testfx.api.FxRobot;
+import org.testfx.framework.junit5.ApplicationTest;
+
+/**
+ * Test class for {@link Animations}.
+ *
+ * @author François Martin
+ * @author Marco Sanfratello
+ */
+class AnimationsTest extends ApplicationTest {
+
+  private FxRobot robot;
+  private Region node;
+
+  @Override
+  public void start(Stage stage) {
+    robot = new FxRobot();
+    node = new Region();
+
+    Scene scene = new Scene(new StackPane(node), 100, 100);
+    stage.setScene(scene);
+    stage.show();
+  }
+
+  @AfterEach
+  void resetTimeScale() {
+    robot.interact(() -> Animations.setTimeScale(1));
+  }
+
+  @Test
+  void fadeReusesTransition() {
+    robot.interact(() -> {
+      Animations.fade(node, 0, Duration.seconds(10), null);
+      int properties = node.getProperties().size();
+      Animations.fade(node, 1, Duration.seconds(10), null);
+      assertEquals(properties, node.getProperties().size());
+    });
+  }
+
+  @Test
+  void fadeInterrupted() {
+    EventHandler<ActionEvent> interrupted = mock(EventHandler.class);
+    EventHandler<ActionEvent> finished = mock(EventHandler.class);
+    robot.interact(() -> {
+      Animations.fade(node, 0, Duration.seconds(10), interrupted);
+      Animations.fade(node, 0.5, Duration.millis(50), finished);
+    });
+
+    await().atMost(5, TimeUnit.SECONDS).until(() -> node.getOpacity() == 0.5);
+    robot.interact(() -> {
+      verify(finished).handle(any());
+      verify(interrupted, never()).handle(any());
+    });
+  }
+
+  @Test
+  void timeScaleZero() {
+    robot.interact(() -> {
+      Animations.setTimeScale(0);
+      Animations.fade(node, 0, Duration.seconds(10), null);
+    });
+
+    // animation ends right away
+    await().atMost(1, TimeUnit.SECONDS).until(() -> node.getOpacity() == 0);
+  }
+
+  @Test
+  void fadeWithTimeScaleZero() {
+    robot.interact(() -> Animations.fade(node, 0, Duration.seconds(10), 0, null));
+
+    // animation ends right away, although the global time scale is unchanged
+    await().atMost(1, TimeUnit.SECONDS).until(() -> node.getOpacity() == 0);
+  }
+
+  @Test
+  void cacheWhileRunning() {
+    robot.interact(() -> {
+      // given
+      node.setCacheHint(CacheHint.QUALITY);
+      TranslateTransition transition = new TranslateTransition(Duration.seconds(10), node);
+      Animations.cacheWhileRunning(transition, node);
+
+      // when:
+      transition.play();
+
+      // then:
+      assertTrue(node.isCache());
+      assertEquals(CacheHint.SPEED, node.getCacheHint());
+
+      // when:
+      transition.stop();
+
+      // then: previous caching is restored
+      assertFalse(node.isCache());
+      assertEquals(CacheHint.QUALITY, node.getCacheHint());
+    });
+  }
+}
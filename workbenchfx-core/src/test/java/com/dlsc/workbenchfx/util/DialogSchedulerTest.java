@@ -0,0 +1,178 @@
+package com.dlsc.workbenchfx.util;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import com.dlsc.workbenchfx.Workbench;
+import com.dlsc.workbenchfx.model.WorkbenchDialog;
+import com.dlsc.workbenchfx.model.WorkbenchDialog.Type;
+import com.dlsc.workbenchfx.view.controls.dialog.DialogControl;
+import java.io.PrintWriter;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import javafx.scene.Scene;
+import javafx.scene.control.ButtonType;
+import javafx.stage.Stage;
+import javafx.util.Duration;
+import org.junit.jupiter.api.Test;
+import org.testfx.api.FxRobot;
+import org.testfx.framework.junit5.ApplicationTest;
+
+/**
+ * Test class for {@link DialogScheduler}.
+ *
+ * @author François Martin
+ * @author Marco Sanfratello
+ */
+class DialogSchedulerTest extends ApplicationTest {
+
+  private FxRobot robot;
+  private Workbench workbench;
+
+  @Override
+  public void start(Stage stage) {
+    robot = new FxRobot();
+    workbench = Workbench.builder().build();
+
+    Scene scene = new Scene(workbench, 100, 100);
+    stage.setScene(scene);
+    stage.show();
+  }
+
+  @Test
+  void maxDialogsShown() {
+    robot.interact(() -> {
+      workbench.setMaxDialogsShown(1);
+      WorkbenchDialog first = workbench.showInformationDialog("First", "Message", null);
+      WorkbenchDialog second = workbench.showInformationDialog("Second", "Message", null);
+
+      assertTrue(first.getDialogControl().isVisible());
+      assertEquals(1, workbench.getNonBlockingOverlaysShown().size());
+
+      // next dialog is shown as soon as the first one is hidden
+      workbench.hideDialog(first);
+      assertTrue(workbench.getNonBlockingOverlaysShown().contains(second.getDialogControl()));
+    });
+  }
+
+  @Test
+  void dialogCoalescing() {
+    Consumer<ButtonType> firstResult = mock(Consumer.class);
+    Consumer<ButtonType> secondResult = mock(Consumer.class);
+    robot.interact(() -> {
+      workbench.setDialogCoalescing(true);
+      WorkbenchDialog first = workbench.showErrorDialog("Error", "Message", firstResult);
+      WorkbenchDialog second = workbench.showErrorDialog("Error", "Message", secondResult);
+      WorkbenchDialog other = workbench.showErrorDialog("Error", "Other message", null);
+
+      // identical dialog has been merged
+      assertSame(first, second);
+      assertEquals(2, first.getOccurrences());
+      assertNotSame(first, other);
+      assertEquals(1, other.getOccurrences());
+      assertEquals(2, workbench.getNonBlockingOverlaysShown().size());
+
+      // result is passed on to the merged dialog
+      first.getOnResult().accept(ButtonType.CLOSE);
+      verify(firstResult).accept(ButtonType.CLOSE);
+      verify(secondResult).accept(ButtonType.CLOSE);
+
+      // once hidden, the dialog is shown separately again
+      workbench.hideDialog(first);
+      WorkbenchDialog third = workbench.showErrorDialog("Error", "Message", null);
+      assertEquals(1, third.getOccurrences());
+    });
+  }
+
+  @Test
+  void dialogInterval() {
+    robot.interact(() -> {
+      workbench.setDialogInterval(Duration.millis(200));
+      workbench.showInformationDialog("First", "Message", null);
+      workbench.showInformationDialog("Second", "Message", null);
+      assertEquals(1, workbench.getNonBlockingOverlaysShown().size());
+    });
+
+    await().atMost(5, TimeUnit.SECONDS)
+        .until(() -> workbench.getNonBlockingOverlaysShown().size() == 2);
+  }
+
+  @Test
+  void scheduleFromBackgroundThread() throws InterruptedException {
+    workbench.setDialogCoalescing(true);
+    Thread thread = new Thread(() -> {
+      for (int i = 0; i < 100; i++) {
+        workbench.showErrorDialog("Error", "Message", null);
+      }
+    });
+    thread.start();
+    thread.join();
+
+    await().atMost(5, TimeUnit.SECONDS)
+        .until(() -> workbench.getNonBlockingOverlaysShown().size() == 1);
+    robot.interact(() -> {
+      WorkbenchDialog dialog =
+          ((DialogControl) workbench.getNonBlockingOverlaysShown().get(0)).getDialog();
+      assertEquals(100, dialog.getOccurrences());
+      assertFalse(dialog.isBlocking());
+      assertEquals(Type.ERROR, dialog.getType());
+    });
+  }
+
+  @Test
+  void dialogCoalescingDoesNotFormatDetails() {
+    robot.interact(() -> {
+      workbench.setDialogCoalescing(true);
+      CountingException exception = new CountingException();
+      WorkbenchDialog first = workbench.showErrorDialog("Error", "Message", exception, null);
+      WorkbenchDialog second = workbench.showErrorDialog("Error", "Message", exception, null);
+
+      assertSame(first, second);
+      assertEquals(2, first.getOccurrences());
+      // the stacktrace is only formatted once the details are requested
+      assertEquals(0, exception.printed);
+      assertTrue(first.hasDetails());
+    });
+  }
+
+  @Test
+  void scheduleFromBackgroundThreadDoesNotReusePooledControls() throws InterruptedException {
+    AtomicReference<DialogControl> idleControl = new AtomicReference<>();
+    robot.interact(() -> {
+      WorkbenchDialog dialog = workbench.showInformationDialog("First", "Message", null);
+      idleControl.set(dialog.getDialogControl());
+      // the control is kept in the pool, while it is still part of the scene graph
+      workbench.hideDialog(dialog);
+    });
+
+    AtomicReference<WorkbenchDialog> dialog = new AtomicReference<>();
+    Thread thread = new Thread(
+        () -> dialog.set(workbench.showInformationDialog("Second", "Message", null)));
+    thread.start();
+    thread.join();
+
+    assertNotSame(idleControl.get(), dialog.get().getDialogControl());
+    await().atMost(5, TimeUnit.SECONDS)
+        .until(() -> workbench.getNonBlockingOverlaysShown().size() == 1);
+    // the idle control has not been touched outside of the JavaFX Application Thread
+    robot.interact(() -> assertNull(idleControl.get().getDialog()));
+  }
+
+  private static final class CountingException extends Exception {
+    private int printed = 0;
+
+    @Override
+    public void printStackTrace(PrintWriter writer) {
+      printed++;
+      super.printStackTrace(writer);
+    }
+  }
+}
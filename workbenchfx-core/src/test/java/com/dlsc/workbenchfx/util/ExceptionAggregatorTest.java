@@ -0,0 +1,130 @@
+package com.dlsc.workbenchfx.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import com.dlsc.workbenchfx.Workbench;
+import com.dlsc.workbenchfx.model.WorkbenchDialog;
+import com.dlsc.workbenchfx.util.ExceptionAggregator.ExceptionRecord;
+import java.util.List;
+import java.util.function.Consumer;
+import javafx.scene.Scene;
+import javafx.scene.control.ButtonType;
+import javafx.stage.Stage;
+import org.junit.jupiter.api.Test;
+import org.testfx.api.FxRobot;
+import org.testfx.framework.junit5.ApplicationTest;
+
+/**
+ * Test class for {@link ExceptionAggregator}.
+ *
+ * @author François Martin
+ * @author Marco Sanfratello
+ */
+class ExceptionAggregatorTest extends ApplicationTest {
+
+  private FxRobot robot;
+  private Workbench workbench;
+
+  @Override
+  public void start(Stage stage) {
+    robot = new FxRobot();
+    workbench = Workbench.builder().exceptionAggregation(true).build();
+
+    Scene scene = new Scene(workbench, 100, 100);
+    stage.setScene(scene);
+    stage.show();
+  }
+
+  private static Exception[] createExceptions(String... messages) {
+    Exception[] exceptions = new Exception[messages.length];
+    for (int i = 0; i < messages.length; i++) {
+      // all exceptions are created at the same place
+      exceptions[i] = new IllegalStateException(messages[i]);
+    }
+    return exceptions;
+  }
+
+  @Test
+  void fingerprint() {
+    Exception[] exceptions = createExceptions("First", "Second");
+    Exception first = exceptions[0];
+    Exception second = exceptions[1];
+    Exception other = new IllegalStateException("First");
+
+    // message is not part of the fingerprint
+    assertEquals(ExceptionAggregator.fingerprint(first), ExceptionAggregator.fingerprint(second));
+    // place where the exception was created is part of the fingerprint
+    assertNotEquals(ExceptionAggregator.fingerprint(first), ExceptionAggregator.fingerprint(other));
+    // type is part of the fingerprint
+    assertNotEquals(
+        ExceptionAggregator.fingerprint(new IllegalStateException()),
+        ExceptionAggregator.fingerprint(new IllegalArgumentException())
+    );
+  }
+
+  @Test
+  void aggregateExceptions() {
+    Consumer<ButtonType> firstResult = mock(Consumer.class);
+    Consumer<ButtonType> secondResult = mock(Consumer.class);
+    Exception[] exceptions = createExceptions("First", "Second", "Third");
+    robot.interact(() -> {
+      WorkbenchDialog first =
+          workbench.showErrorDialog("Error", "Message", exceptions[0], firstResult);
+      WorkbenchDialog second =
+          workbench.showErrorDialog("Error", "Message", exceptions[1], secondResult);
+
+      assertSame(first, second);
+      assertEquals(2, first.getOccurrences());
+      assertEquals(1, workbench.getNonBlockingOverlaysShown().size());
+
+      List<ExceptionRecord> records = workbench.getExceptionAggregator().getRecords();
+      assertEquals(1, records.size());
+      assertEquals(2, records.get(0).getCount());
+      assertEquals("First", records.get(0).getException().getMessage());
+
+      // result is passed on to both occurrences
+      first.getOnResult().accept(ButtonType.CLOSE);
+      verify(firstResult).accept(ButtonType.CLOSE);
+      verify(secondResult).accept(ButtonType.CLOSE);
+
+      // once hidden, the next occurrence is shown in a new dialog, but counted in the same record
+      workbench.hideDialog(first);
+      WorkbenchDialog third =
+          workbench.showErrorDialog("Error", "Message", exceptions[2], null);
+      assertNotSame(first, third);
+      assertEquals(1, third.getOccurrences());
+      assertEquals(3, workbench.getExceptionAggregator().getRecords().get(0).getCount());
+    });
+  }
+
+  @Test
+  void maximumSize() {
+    ExceptionAggregator aggregator = new ExceptionAggregator();
+    robot.interact(() -> {
+      for (int i = 0; i < ExceptionAggregator.MAXIMUM_SIZE + 10; i++) {
+        // every exception is created at a different place
+        Exception exception = new Exception();
+        exception.setStackTrace(new StackTraceElement[] {
+            new StackTraceElement("Class", "method", "Class.java", i)
+        });
+        aggregator.aggregate(exception, null,
+            result -> WorkbenchDialog.builder("Error", "Message", WorkbenchDialog.Type.ERROR)
+                .onResult(result)
+                .build()
+        );
+      }
+      List<ExceptionRecord> records = aggregator.getRecords();
+      assertEquals(ExceptionAggregator.MAXIMUM_SIZE, records.size());
+      // least recently seen fingerprints have been discarded
+      assertEquals(10, records.get(0).getException().getStackTrace()[0].getLineNumber());
+
+      aggregator.clear();
+      assertEquals(0, aggregator.getRecords().size());
+    });
+  }
+}
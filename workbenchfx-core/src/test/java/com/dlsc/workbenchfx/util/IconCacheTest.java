@@ -0,0 +1,166 @@
+package com.dlsc.workbenchfx.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import de.jensd.fx.glyphs.fontawesome.FontAwesomeIcon;
+import de.jensd.fx.glyphs.materialdesignicons.MaterialDesignIcon;
+import javafx.geometry.Rectangle2D;
+import javafx.scene.image.Image;
+import javafx.scene.image.ImageView;
+import javafx.scene.paint.Color;
+import javafx.stage.Stage;
+import org.junit.jupiter.api.Test;
+import org.testfx.api.FxRobot;
+import org.testfx.framework.junit5.ApplicationTest;
+
+/**
+ * Test class for {@link IconCache}.
+ *
+ * @author François Martin
+ * @author Marco Sanfratello
+ */
+class IconCacheTest extends ApplicationTest {
+
+  private FxRobot robot;
+
+  @Override
+  public void start(Stage stage) {
+    robot = new FxRobot();
+    IconCache.setRenderScale(1);
+    IconCache.clear();
+  }
+
+  @Test
+  void getViewport() {
+    robot.interact(() -> {
+      Rectangle2D viewport = IconCache.getViewport(FontAwesomeIcon.QUESTION, 16, Color.BLACK);
+      assertEquals(1, IconCache.size());
+
+      // same icon, size and fill are only rasterized once
+      assertSame(viewport, IconCache.getViewport(FontAwesomeIcon.QUESTION, 16, Color.BLACK));
+      assertSame(
+          viewport, IconCache.getViewport(FontAwesomeIcon.QUESTION, 16, Color.web("#000000")));
+      assertEquals(1, IconCache.size());
+
+      // a different icon, size or fill results in a new, non-overlapping area of the atlas
+      Rectangle2D[] others = new Rectangle2D[] {
+          IconCache.getViewport(MaterialDesignIcon.HELP, 16, Color.BLACK),
+          IconCache.getViewport(FontAwesomeIcon.QUESTION, 20, Color.BLACK),
+          IconCache.getViewport(FontAwesomeIcon.QUESTION, 16, Color.WHITE)
+      };
+      assertEquals(4, IconCache.size());
+      for (Rectangle2D other : others) {
+        assertNotEquals(viewport, other);
+        assertFalse(viewport.intersects(other));
+      }
+    });
+  }
+
+  @Test
+  void getViewportNotOnFxThread() {
+    assertThrows(
+        IllegalStateException.class,
+        () -> IconCache.getViewport(FontAwesomeIcon.QUESTION, 16, Color.BLACK)
+    );
+  }
+
+  @Test
+  void createImageView() {
+    robot.interact(() -> {
+      ImageView imageView1 = IconCache.createImageView(FontAwesomeIcon.QUESTION, 16, Color.BLACK);
+      ImageView imageView2 = IconCache.createImageView(MaterialDesignIcon.HELP, 16, Color.BLACK);
+
+      // each view is a separate node, sharing the same atlas page
+      assertNotSame(imageView1, imageView2);
+      assertSame(
+          IconCache.getPage(FontAwesomeIcon.QUESTION, 16, Color.BLACK), imageView1.getImage());
+      assertSame(imageView1.getImage(), imageView2.getImage());
+      assertNotEquals(imageView1.getViewport(), imageView2.getViewport());
+    });
+  }
+
+  @Test
+  void updateImageView() {
+    robot.interact(() -> {
+      ImageView imageView = IconCache.createImageView(FontAwesomeIcon.QUESTION, 16, Color.BLACK);
+      Rectangle2D viewport = imageView.getViewport();
+
+      // the view is kept and only shows another area of the atlas page
+      Image page = imageView.getImage();
+      IconCache.updateImageView(imageView, FontAwesomeIcon.QUESTION, 16, Color.WHITE);
+      assertSame(page, imageView.getImage());
+      assertNotEquals(viewport, imageView.getViewport());
+      Rectangle2D whiteViewport = IconCache.getViewport(FontAwesomeIcon.QUESTION, 16, Color.WHITE);
+      assertEquals(whiteViewport, imageView.getViewport());
+    });
+  }
+
+  @Test
+  void setRenderScale() {
+    robot.interact(() -> {
+      Rectangle2D viewport = IconCache.getViewport(FontAwesomeIcon.QUESTION, 16, Color.BLACK);
+      Image page = IconCache.getPage(FontAwesomeIcon.QUESTION, 16, Color.BLACK);
+
+      // changing the scale rasterizes the icons again
+      IconCache.setRenderScale(2);
+      assertEquals(0, IconCache.size());
+      Rectangle2D scaledViewport =
+          IconCache.getViewport(FontAwesomeIcon.QUESTION, 16, Color.BLACK);
+      assertNotSame(page, IconCache.getPage(FontAwesomeIcon.QUESTION, 16, Color.BLACK));
+      assertEquals(viewport.getWidth() * 2, scaledViewport.getWidth(), 1);
+      assertEquals(viewport.getHeight() * 2, scaledViewport.getHeight(), 1);
+
+      // the icon is displayed in its logical size
+      ImageView imageView = IconCache.createImageView(FontAwesomeIcon.QUESTION, 16, Color.BLACK);
+      assertEquals(scaledViewport.getWidth() / 2, imageView.getFitWidth(), 0.01);
+    });
+  }
+
+  @Test
+  void clear() {
+    robot.interact(() -> {
+      IconCache.getViewport(FontAwesomeIcon.QUESTION, 16, Color.BLACK);
+      IconCache.clear();
+      assertEquals(0, IconCache.size());
+      assertEquals(0, IconCache.getPageCount());
+    });
+  }
+
+  @Test
+  void evictLeastRecentlyUsedPage() {
+    robot.interact(() -> {
+      Rectangle2D kept = IconCache.getViewport(FontAwesomeIcon.QUESTION, 120, Color.BLACK);
+      int i = 1;
+      while (IconCache.getPageCount() < 2) {
+        IconCache.getViewport(FontAwesomeIcon.QUESTION, 120, fill(i++));
+      }
+      // second page, which won't be used again
+      ImageView evicted = IconCache.createImageView(FontAwesomeIcon.QUESTION, 120, Color.RED);
+      Image evictedPage = evicted.getImage();
+
+      // fill all pages, while keeping the first page in use
+      int size;
+      do {
+        size = IconCache.size();
+        IconCache.getViewport(FontAwesomeIcon.QUESTION, 120, fill(i++));
+        IconCache.getViewport(FontAwesomeIcon.QUESTION, 120, Color.BLACK);
+      } while (IconCache.size() > size && i < 1000);
+
+      // the least recently used page has been evicted, views of it keep displaying their icon
+      assertEquals(IconCache.MAX_PAGES, IconCache.getPageCount());
+      assertSame(kept, IconCache.getViewport(FontAwesomeIcon.QUESTION, 120, Color.BLACK));
+      assertSame(evictedPage, evicted.getImage());
+      assertNotSame(
+          evictedPage, IconCache.getPage(FontAwesomeIcon.QUESTION, 120, Color.RED));
+    });
+  }
+
+  private static Color fill(int i) {
+    return Color.rgb(0, i / 256, i % 256);
+  }
+}
@@ -0,0 +1,102 @@
+package com.dlsc.workbenchfx.util;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.dlsc.workbenchfx.Workbench;
+import com.dlsc.workbenchfx.model.WorkbenchNotification;
+import java.util.concurrent.TimeUnit;
+import javafx.scene.Scene;
+import javafx.stage.Stage;
+import javafx.util.Duration;
+import org.junit.jupiter.api.Test;
+import org.testfx.api.FxRobot;
+import org.testfx.framework.junit5.ApplicationTest;
+
+/**
+ * Test class for {@link NotificationScheduler}.
+ *
+ * @author François Martin
+ * @author Marco Sanfratello
+ */
+class NotificationSchedulerTest extends ApplicationTest {
+
+  private FxRobot robot;
+  private Workbench workbench;
+
+  @Override
+  public void start(Stage stage) {
+    robot = new FxRobot();
+    workbench = Workbench.builder()
+        .maxNotificationsShown(2)
+        .notificationDuration(Duration.INDEFINITE)
+        .build();
+
+    Scene scene = new Scene(workbench, 100, 100);
+    stage.setScene(scene);
+    stage.show();
+  }
+
+  @Test
+  void maxNotificationsShown() {
+    robot.interact(() -> {
+      workbench.showNotification("First");
+      workbench.showNotification("Second");
+      workbench.showNotification("Third");
+      assertEquals(2, workbench.getNotificationsShown().size());
+
+      // next notification is shown as soon as one of them is hidden
+      workbench.hideNotification(workbench.getNotificationsShown().get(0));
+      assertEquals(2, workbench.getNotificationsShown().size());
+      assertEquals("Third", workbench.getNotificationsShown().get(1).getMessage());
+    });
+  }
+
+  @Test
+  void mergeNotifications() {
+    robot.interact(() -> {
+      workbench.showNotification("First");
+      workbench.showNotification("First");
+      workbench.showNotification("Second");
+      workbench.showNotification("Third");
+      workbench.showNotification("Third");
+
+      assertEquals(2, workbench.getNotificationsShown().size());
+      WorkbenchNotification first = workbench.getNotificationsShown().get(0);
+      assertEquals(2, first.getOccurrences());
+
+      // queued notifications are merged as well
+      workbench.hideNotification(first);
+      assertEquals(2, workbench.getNotificationsShown().get(1).getOccurrences());
+    });
+  }
+
+  @Test
+  void notificationDuration() {
+    robot.interact(() -> {
+      workbench.setNotificationDuration(Duration.millis(100));
+      workbench.showNotification("First");
+      assertEquals(1, workbench.getNotificationsShown().size());
+    });
+
+    await().atMost(5, TimeUnit.SECONDS)
+        .until(() -> workbench.getNotificationsShown().isEmpty());
+  }
+
+  @Test
+  void scheduleFromBackgroundThread() throws InterruptedException {
+    Thread thread = new Thread(() -> {
+      for (int i = 0; i < 1000; i++) {
+        workbench.showNotification("Progress");
+      }
+    });
+    thread.start();
+    thread.join();
+
+    await().atMost(5, TimeUnit.SECONDS)
+        .until(() -> workbench.getNotificationsShown().size() == 1);
+    robot.interact(() ->
+        assertEquals(1000, workbench.getNotificationsShown().get(0).getOccurrences())
+    );
+  }
+}
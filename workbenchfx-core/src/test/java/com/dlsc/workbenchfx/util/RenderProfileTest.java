@@ -0,0 +1,35 @@
+package com.dlsc.workbenchfx.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class for {@link RenderProfile}.
+ *
+ * @author François Martin
+ * @author Marco Sanfratello
+ */
+class RenderProfileTest {
+
+  @AfterEach
+  void clearSystemProperty() {
+    System.clearProperty(RenderProfile.SYSTEM_PROPERTY);
+  }
+
+  @Test
+  void detectSystemProperty() {
+    System.setProperty(RenderProfile.SYSTEM_PROPERTY, "minimal");
+    assertEquals(RenderProfile.MINIMAL, RenderProfile.detect());
+
+    System.setProperty(RenderProfile.SYSTEM_PROPERTY, " Reduced ");
+    assertEquals(RenderProfile.REDUCED, RenderProfile.detect());
+  }
+
+  @Test
+  void timeScale() {
+    assertEquals(1, RenderProfile.FULL.getTimeScale());
+    assertEquals(0, RenderProfile.MINIMAL.getTimeScale());
+  }
+}
@@ -0,0 +1,95 @@
+package com.dlsc.workbenchfx.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import javafx.beans.property.ObjectProperty;
+import javafx.beans.property.SimpleObjectProperty;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class for {@link SelectionDispatcher}.
+ *
+ * @author François Martin
+ * @author Marco Sanfratello
+ */
+class SelectionDispatcherTest {
+
+  private ObjectProperty<String> selection;
+  private SelectionDispatcher<String> dispatcher;
+  private List<Boolean> callsA;
+  private List<Boolean> callsB;
+  private Consumer<Boolean> listenerA;
+  private Consumer<Boolean> listenerB;
+
+  @BeforeEach
+  void setUp() {
+    selection = new SimpleObjectProperty<>("A");
+    dispatcher = SelectionDispatcher.of(selection);
+    callsA = new ArrayList<>();
+    callsB = new ArrayList<>();
+    listenerA = callsA::add;
+    listenerB = callsB::add;
+    dispatcher.register("A", listenerA);
+    dispatcher.register("B", listenerB);
+  }
+
+  @Test
+  void of() {
+    assertSame(dispatcher, SelectionDispatcher.of(selection));
+  }
+
+  @Test
+  void isSelected() {
+    assertTrue(dispatcher.isSelected("A"));
+    assertFalse(dispatcher.isSelected("B"));
+
+    selection.set("B");
+    assertFalse(dispatcher.isSelected("A"));
+    assertTrue(dispatcher.isSelected("B"));
+  }
+
+  @Test
+  void dispatchOnlyToChangedItems() {
+    selection.set("B");
+    assertEquals(1, callsA.size());
+    assertFalse(callsA.get(0));
+    assertEquals(1, callsB.size());
+    assertTrue(callsB.get(0));
+
+    // listeners of other items don't get notified
+    selection.set("C");
+    assertEquals(1, callsA.size());
+    assertEquals(2, callsB.size());
+    assertFalse(callsB.get(1));
+  }
+
+  @Test
+  void unregister() {
+    dispatcher.unregister("B", listenerB);
+    selection.set("B");
+    assertEquals(1, callsA.size());
+    assertTrue(callsB.isEmpty());
+  }
+
+  @Test
+  void pruneItemsWithoutListeners() {
+    assertEquals(2, dispatcher.getItemCount());
+    Consumer<Boolean> listenerC = callsA::add;
+    dispatcher.register("C", listenerC);
+    assertEquals(3, dispatcher.getItemCount());
+
+    // items are forgotten as soon as they don't have any listeners
+    dispatcher.unregister("C", listenerC);
+    assertEquals(2, dispatcher.getItemCount());
+    dispatcher.unregister("A", listenerA);
+    dispatcher.unregister("B", listenerB);
+    assertEquals(0, dispatcher.getItemCount());
+  }
+}
@@ -0,0 +1,111 @@
+package com.dlsc.workbenchfx.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.DoubleSupplier;
+import javafx.geometry.Insets;
+import javafx.scene.Scene;
+import javafx.scene.control.Label;
+import javafx.scene.layout.VBox;
+import javafx.scene.text.Font;
+import javafx.stage.Stage;
+import org.junit.jupiter.api.Test;
+import org.testfx.api.FxRobot;
+import org.testfx.framework.junit5.ApplicationTest;
+
+/**
+ * Test class for {@link TextLayoutCache}.
+ *
+ * @author François Martin
+ * @author Marco Sanfratello
+ */
+class TextLayoutCacheTest extends ApplicationTest {
+
+  private static final String TEXT = "Customer Management with a very long name";
+
+  private FxRobot robot;
+  private Label label1;
+  private Label label2;
+  private final AtomicInteger measurements = new AtomicInteger();
+  private final DoubleSupplier measure = () -> measurements.incrementAndGet();
+
+  @Override
+  public void start(Stage stage) {
+    robot = new FxRobot();
+    TextLayoutCache.clear();
+
+    label1 = createLabel();
+    label2 = createLabel();
+    stage.setScene(new Scene(new VBox(label1, label2), 200, 200));
+    stage.show();
+  }
+
+  private Label createLabel() {
+    Label label = new Label(TEXT);
+    label.setWrapText(true);
+    label.setFont(Font.font(14));
+    return label;
+  }
+
+  @Test
+  void computePrefHeight() {
+    robot.interact(() -> {
+      double height = TextLayoutCache.computePrefHeight(label1, 100, measure);
+      assertEquals(1, measurements.get());
+      assertEquals(1, TextLayoutCache.size());
+
+      // the same combination is only measured once, also for other labels
+      assertEquals(height, TextLayoutCache.computePrefHeight(label1, 100, measure), 0.01);
+      assertEquals(height, TextLayoutCache.computePrefHeight(label2, 100, measure), 0.01);
+      assertEquals(1, measurements.get());
+      assertEquals(1, TextLayoutCache.size());
+    });
+  }
+
+  @Test
+  void computePrefHeightProperties() {
+    robot.interact(() -> {
+      TextLayoutCache.computePrefHeight(label1, 100, measure);
+
+      // every property which affects the height results in a separate measurement
+      TextLayoutCache.computePrefHeight(label1, 50, measure);
+      label2.setFont(Font.font(20));
+      TextLayoutCache.computePrefHeight(label2, 100, measure);
+      label2.setFont(label1.getFont());
+      label2.setLabelPadding(new Insets(5));
+      TextLayoutCache.computePrefHeight(label2, 100, measure);
+      label2.setLabelPadding(Insets.EMPTY);
+      label2.setPadding(new Insets(5));
+      TextLayoutCache.computePrefHeight(label2, 100, measure);
+      assertEquals(5, measurements.get());
+      assertEquals(5, TextLayoutCache.size());
+    });
+  }
+
+  @Test
+  void computePrefHeightNotCached() {
+    robot.interact(() -> {
+      // unknown width
+      TextLayoutCache.computePrefHeight(label1, -1, measure);
+      // not wrapped
+      label1.setWrapText(false);
+      TextLayoutCache.computePrefHeight(label1, 100, measure);
+      // with a graphic
+      label2.setGraphic(new Label());
+      TextLayoutCache.computePrefHeight(label2, 100, measure);
+      TextLayoutCache.computePrefHeight(label2, 100, measure);
+      assertEquals(4, measurements.get());
+      assertEquals(0, TextLayoutCache.size());
+    });
+  }
+
+  @Test
+  void clear() {
+    robot.interact(() -> {
+      TextLayoutCache.computePrefHeight(label1, 100, measure);
+      TextLayoutCache.clear();
+      assertEquals(0, TextLayoutCache.size());
+    });
+  }
+}
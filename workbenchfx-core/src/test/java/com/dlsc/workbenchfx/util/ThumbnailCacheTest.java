@@ -0,0 +1,99 @@
+package com.dlsc.workbenchfx.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+import com.dlsc.workbenchfx.model.WorkbenchModule;
+import javafx.scene.Scene;
+import javafx.scene.image.Image;
+import javafx.scene.layout.Pane;
+import javafx.scene.layout.StackPane;
+import javafx.stage.Stage;
+import org.junit.jupiter.api.Test;
+import org.testfx.api.FxRobot;
+import org.testfx.framework.junit5.ApplicationTest;
+
+/**
+ * Test class for {@link ThumbnailCache}.
+ *
+ * @author François Martin
+ * @author Marco Sanfratello
+ */
+class ThumbnailCacheTest extends ApplicationTest {
+
+  private FxRobot robot;
+  private Pane view;
+  private WorkbenchModule module;
+
+  @Override
+  public void start(Stage stage) {
+    robot = new FxRobot();
+    ThumbnailCache.clear();
+    module = mock(WorkbenchModule.class);
+    view = new Pane();
+    view.setPrefSize(480, 240);
+    view.setStyle("-fx-background-color: red;");
+
+    Scene scene = new Scene(new StackPane(view), 480, 240);
+    stage.setScene(scene);
+    stage.show();
+  }
+
+  @Test
+  void capture() {
+    robot.interact(() -> {
+      ThumbnailCache.capture(module, view);
+      assertEquals(1, ThumbnailCache.size());
+
+      // the view is scaled down to the width of a thumbnail
+      Image thumbnail = ThumbnailCache.get(module);
+      assertEquals(ThumbnailCache.THUMBNAIL_WIDTH, thumbnail.getWidth(), 1);
+      assertEquals(ThumbnailCache.THUMBNAIL_WIDTH / 2, thumbnail.getHeight(), 1);
+
+      // capturing again replaces the thumbnail
+      ThumbnailCache.capture(module, view);
+      assertEquals(1, ThumbnailCache.size());
+    });
+  }
+
+  @Test
+  void captureNotInScene() {
+    robot.interact(() -> {
+      ThumbnailCache.capture(module, view);
+      assertNotNull(ThumbnailCache.get(module));
+
+      // a view which isn't shown removes the outdated thumbnail
+      ThumbnailCache.capture(module, new Pane());
+      assertNull(ThumbnailCache.get(module));
+    });
+  }
+
+  @Test
+  void captureNotOnFxThread() {
+    assertThrows(IllegalStateException.class, () -> ThumbnailCache.capture(module, view));
+  }
+
+  @Test
+  void maximumSize() {
+    robot.interact(() -> {
+      for (int i = 0; i < ThumbnailCache.MAXIMUM_SIZE * 2; i++) {
+        ThumbnailCache.capture(mock(WorkbenchModule.class), view);
+      }
+      assertTrue(ThumbnailCache.size() <= ThumbnailCache.MAXIMUM_SIZE);
+    });
+  }
+
+  @Test
+  void invalidate() {
+    robot.interact(() -> {
+      ThumbnailCache.capture(module, view);
+      ThumbnailCache.invalidate(module);
+      assertNull(ThumbnailCache.get(module));
+      assertEquals(0, ThumbnailCache.size());
+    });
+  }
+}
@@ -2,11 +2,16 @@ package com.dlsc.workbenchfx.util;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import javafx.embed.swing.JFXPanel;
 import javafx.scene.Node;
@@ -68,6 +73,11 @@ public class WorkbenchUtilsTest {
     verify(mock).run();
   }
 
+  @Test
+  void formatOccurrences() {
+    assertEquals("\u00D73", WorkbenchUtils.formatOccurrences(3));
+  }
+
   @Test
   void convertToId() {
     String[] toBeConverted = {
@@ -94,4 +104,58 @@ public class WorkbenchUtilsTest {
       assertEquals(columnsPerRow[i], WorkbenchUtils.calculateColumnsPerRow(modulesPerPage[i]));
     }
   }
+
+  @Test
+  void calculateModulesPerPage() {
+    // the tiles of the calculated amount always fit into the available columns and rows
+    for (int maxColumns = 1; maxColumns <= 6; maxColumns++) {
+      for (int maxRows = 1; maxRows <= 6; maxRows++) {
+        int modulesPerPage = WorkbenchUtils.calculateModulesPerPage(maxColumns, maxRows);
+        int columns = WorkbenchUtils.calculateColumnsPerRow(modulesPerPage);
+        int rows = (int) Math.ceil((double) modulesPerPage / columns);
+        assertTrue(columns <= maxColumns);
+        assertTrue(rows <= maxRows);
+      }
+    }
+    assertEquals(1, WorkbenchUtils.calculateModulesPerPage(1, 1));
+    assertEquals(3, WorkbenchUtils.calculateModulesPerPage(3, 1));
+    assertEquals(6, WorkbenchUtils.calculateModulesPerPage(5, 2));
+    assertEquals(9, WorkbenchUtils.calculateModulesPerPage(3, 3));
+    assertEquals(16, WorkbenchUtils.calculateModulesPerPage(4, 4));
+  }
+
+  @Test
+  void calculateTilesFitting() {
+    assertEquals(1, WorkbenchUtils.calculateTilesFitting(0, 100, 10));
+    assertEquals(1, WorkbenchUtils.calculateTilesFitting(100, 100, 10));
+    assertEquals(1, WorkbenchUtils.calculateTilesFitting(209, 100, 10));
+    assertEquals(2, WorkbenchUtils.calculateTilesFitting(210, 100, 10));
+    assertEquals(3, WorkbenchUtils.calculateTilesFitting(320, 100, 10));
+    assertEquals(1, WorkbenchUtils.calculateTilesFitting(320, 0, 10));
+  }
+
+  @Test
+  void moveItem() {
+    observableList.addAll("A", "B", "C", "D");
+    List<Boolean> permutations = new ArrayList<>();
+    observableList.addListener((ListChangeListener<String>) c -> {
+      while (c.next()) {
+        permutations.add(c.wasPermutated());
+      }
+    });
+
+    WorkbenchUtils.moveItem(observableList, "A", 2);
+    assertEquals(Arrays.asList("B", "C", "A", "D"), observableList);
+    WorkbenchUtils.moveItem(observableList, "D", 0);
+    assertEquals(Arrays.asList("D", "B", "C", "A"), observableList);
+    // index is clamped to the size of the list
+    WorkbenchUtils.moveItem(observableList, "D", 10);
+    assertEquals(Arrays.asList("B", "C", "A", "D"), observableList);
+    // moving to the current index doesn't change the list
+    WorkbenchUtils.moveItem(observableList, "D", 3);
+    assertEquals(Arrays.asList(true, true, true), permutations);
+
+    assertThrows(
+        IllegalArgumentException.class, () -> WorkbenchUtils.moveItem(observableList, "E", 0));
+  }
 }
@@ -1,19 +1,43 @@
 package com.dlsc.workbenchfx.view;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.reset;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.dlsc.workbenchfx.Workbench;
+import com.dlsc.workbenchfx.model.WorkbenchModule;
+import com.dlsc.workbenchfx.testing.MockPage;
 import com.dlsc.workbenchfx.view.controls.module.Page;
+import com.dlsc.workbenchfx.view.controls.module.Tile;
+import java.util.ArrayList;
+import java.util.List;
+import javafx.animation.Animation.Status;
+import javafx.animation.PauseTransition;
+import javafx.beans.property.BooleanProperty;
+import javafx.beans.property.DoubleProperty;
 import javafx.beans.property.IntegerProperty;
+import javafx.beans.property.SimpleBooleanProperty;
+import javafx.beans.property.SimpleDoubleProperty;
 import javafx.beans.property.SimpleIntegerProperty;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
 import javafx.css.PseudoClass;
+import javafx.geometry.Insets;
+import javafx.scene.Group;
+import javafx.scene.Node;
+import javafx.scene.Scene;
+import javafx.scene.layout.GridPane;
+import javafx.scene.layout.Region;
 import javafx.util.Callback;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.testfx.framework.junit5.ApplicationTest;
 
 public class AddModulePresenterTest extends ApplicationTest {
@@ -25,6 +49,9 @@ public class AddModulePresenterTest extends ApplicationTest {
 
   private static final PseudoClass ONE_PAGE_STATE = PseudoClass.getPseudoClass("one-page");
   private final IntegerProperty amountOfPages = new SimpleIntegerProperty(1);
+  private final BooleanProperty adaptiveModulesPerPage = new SimpleBooleanProperty(false);
+  private final DoubleProperty width = new SimpleDoubleProperty();
+  private final DoubleProperty height = new SimpleDoubleProperty();
 
   @BeforeEach
   void setup() {
@@ -35,8 +62,11 @@ public class AddModulePresenterTest extends ApplicationTest {
     when(mockBench.getAmountOfPages()).thenReturn(1);
     when(mockBench.amountOfPagesProperty()).thenReturn(amountOfPages);
     when(mockBench.getPageFactory()).thenReturn(mockCall);
+    when(mockBench.adaptiveModulesPerPageProperty()).thenReturn(adaptiveModulesPerPage);
 
     mockView = mock(AddModuleView.class);
+    when(mockView.widthProperty()).thenReturn(width);
+    when(mockView.heightProperty()).thenReturn(height);
   }
 
   @Test
@@ -62,4 +92,128 @@ public class AddModulePresenterTest extends ApplicationTest {
     verify(mockView).setPageCount(1);
     verify(mockView).pseudoClassStateChanged(ONE_PAGE_STATE, true);
   }
+
+  @Test
+  void testResizeWithoutAdaptiveModulesPerPage() {
+    addModulePresenter = new AddModulePresenter(mockBench, mockView);
+
+    width.setValue(800);
+    height.setValue(600);
+
+    // the modules per page don't get adapted after resizing has come to a halt
+    assertEquals(Status.STOPPED, addModulePresenter.getResizeDebounce().getStatus());
+    verify(mockBench, never()).setModulesPerPage(anyInt());
+  }
+
+  @Test
+  void testResizeWithAdaptiveModulesPerPage() {
+    adaptiveModulesPerPage.set(true);
+    addModulePresenter = new AddModulePresenter(mockBench, mockView);
+
+    width.setValue(800);
+    height.setValue(600);
+
+    // the modules per page only get adapted once resizing has come to a halt
+    PauseTransition resizeDebounce = addModulePresenter.getResizeDebounce();
+    assertEquals(Status.RUNNING, resizeDebounce.getStatus());
+    resizeDebounce.stop();
+    verify(mockBench, never()).setModulesPerPage(anyInt());
+  }
+
+  @Test
+  void testUpdateModulesPerPage() {
+    addModulePresenter = new AddModulePresenter(mockBench, mockView);
+    showPageWithTile(100, 100);
+    when(mockView.getInsets()).thenReturn(Insets.EMPTY);
+    when(mockView.getWidth()).thenReturn(800d);
+    when(mockView.getHeight()).thenReturn(350d);
+
+    // 8 columns and 3 rows of tiles fit into the view
+    addModulePresenter.updateModulesPerPage();
+    verify(mockBench).setModulesPerPage(12);
+
+    // the page indicator leaves only room for 2 rows
+    Region paginationControl = new Region();
+    paginationControl.setPrefHeight(100);
+    when(mockView.lookup(".pagination-control")).thenReturn(paginationControl);
+    addModulePresenter.updateModulesPerPage();
+    verify(mockBench).setModulesPerPage(6);
+  }
+
+  @Test
+  void testPageFactoryDisposesReplacedPages() {
+    int modulesPerPage = 3;
+    setupPages(modulesPerPage, 10);
+    addModulePresenter = new AddModulePresenter(mockBench, mockView);
+    Callback<Integer, Node> pageFactory = capturePageFactory();
+
+    // pages which are not shown anymore get disposed, so only the current page keeps its tiles
+    List<Page> pages = new ArrayList<>();
+    for (int i = 0; i < 20; i++) {
+      pages.add((Page) pageFactory.call(i % 4));
+      int tileCount = pages.stream().mapToInt(page -> page.getTiles().size()).sum();
+      assertTrue(tileCount <= modulesPerPage, "Tiles of discarded pages: " + tileCount);
+    }
+    assertEquals(modulesPerPage, pages.get(pages.size() - 1).getTiles().size());
+  }
+
+  @Test
+  void testPageFactoryDisposesPagesOnceRemoved() {
+    setupPages(3, 10);
+    addModulePresenter = new AddModulePresenter(mockBench, mockView);
+    Callback<Integer, Node> pageFactory = capturePageFactory();
+
+    interact(() -> {
+      Page page0 = (Page) pageFactory.call(0);
+      Group pane = new Group(page0);
+      new Scene(pane);
+
+      // the replaced page keeps its tiles while it is still being shown, e.g. during an animation
+      Page page1 = (Page) pageFactory.call(1);
+      pane.getChildren().add(page1);
+      assertEquals(3, page0.getTiles().size());
+
+      pane.getChildren().remove(page0);
+      assertEquals(0, page0.getTiles().size());
+      assertEquals(3, page1.getTiles().size());
+    });
+  }
+
+  /**
+   * Lets the page factory create real pages, showing {@code moduleAmount} modules.
+   */
+  private void setupPages(int modulesPerPage, int moduleAmount) {
+    ObservableList<WorkbenchModule> modules = FXCollections.observableArrayList();
+    for (int i = 0; i < moduleAmount; i++) {
+      modules.add(mock(WorkbenchModule.class));
+    }
+    when(mockBench.getModules()).thenReturn(modules);
+    when(mockBench.getModulesPerPage()).thenReturn(modulesPerPage);
+    when(mockBench.modulesPerPageProperty())
+        .thenReturn(new SimpleIntegerProperty(modulesPerPage));
+    when(mockBench.getTileFactory()).thenReturn(workbench -> mock(Tile.class));
+    when(mockCall.call(any())).thenAnswer(invocation -> new MockPage(mockBench));
+  }
+
+  private Callback<Integer, Node> capturePageFactory() {
+    ArgumentCaptor<Callback<Integer, Node>> pageFactory = ArgumentCaptor.forClass(Callback.class);
+    verify(mockView).setPageFactory(pageFactory.capture());
+    return pageFactory.getValue();
+  }
+
+  /**
+   * Lets the page factory of the view create a page, which contains a single tile of the given
+   * size in a {@link GridPane}.
+   */
+  private void showPageWithTile(double tileWidth, double tileHeight) {
+    Tile mockTile = mock(Tile.class);
+    when(mockTile.getParent()).thenReturn(new GridPane());
+    when(mockTile.prefWidth(-1)).thenReturn(tileWidth);
+    when(mockTile.prefHeight(-1)).thenReturn(tileHeight);
+    Page mockPage = mock(Page.class);
+    when(mockPage.getTiles()).thenReturn(FXCollections.observableArrayList(mockTile));
+    when(mockCall.call(any())).thenReturn(mockPage);
+
+    capturePageFactory().call(0);
+  }
 }
@@ -0,0 +1,89 @@
+package com.dlsc.workbenchfx.view.controls;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.dlsc.workbenchfx.util.TextLayoutCache;
+import java.util.function.Consumer;
+import javafx.geometry.Insets;
+import javafx.scene.Scene;
+import javafx.scene.control.ContentDisplay;
+import javafx.scene.control.Label;
+import javafx.scene.control.OverrunStyle;
+import javafx.scene.layout.VBox;
+import javafx.scene.text.Font;
+import javafx.scene.text.TextAlignment;
+import javafx.stage.Stage;
+import org.junit.jupiter.api.Test;
+import org.testfx.api.FxRobot;
+import org.testfx.framework.junit5.ApplicationTest;
+
+/**
+ * Test for {@link MultilineLabel}.
+ *
+ * @author François Martin
+ * @author Marco Sanfratello
+ */
+class MultilineLabelTest extends ApplicationTest {
+
+  private static final String MESSAGE =
+      "Customer Management with a very long name\nand a second paragraph\n";
+  private static final Font[] FONTS = {Font.font(10), Font.font(14), Font.font("Serif", 22)};
+  private static final double[] WIDTHS = {20, 57.5, 100, 250, 1000};
+
+  private FxRobot robot;
+  private MultilineLabel multilineLabel;
+  private Label label;
+
+  @Override
+  public void start(Stage stage) {
+    robot = new FxRobot();
+    TextLayoutCache.clear();
+
+    multilineLabel = new MultilineLabel(MESSAGE);
+    // computes the preferred height without the cache
+    label = new Label(MESSAGE);
+    label.setWrapText(true);
+
+    stage.setScene(new Scene(new VBox(multilineLabel, label), 200, 200));
+    stage.show();
+  }
+
+  @Test
+  void computePrefHeight() {
+    robot.interact(() -> assertSamePrefHeight(l -> { }));
+  }
+
+  @Test
+  void computePrefHeightStyled() {
+    robot.interact(() -> {
+      assertSamePrefHeight(l -> l.setLabelPadding(new Insets(3, 7, 5, 2)));
+      assertSamePrefHeight(l -> l.setPadding(new Insets(4, 1, 6, 9)));
+      assertSamePrefHeight(l -> l.setLineSpacing(3.5));
+      assertSamePrefHeight(l -> l.setContentDisplay(ContentDisplay.GRAPHIC_ONLY));
+      assertSamePrefHeight(l -> l.setUnderline(true));
+      assertSamePrefHeight(l -> l.setTextAlignment(TextAlignment.CENTER));
+      assertSamePrefHeight(l -> l.setTextOverrun(OverrunStyle.CENTER_WORD_ELLIPSIS));
+    });
+  }
+
+  /**
+   * Applies the {@code style} to both labels and asserts the cached preferred height equals the
+   * one computed by the skin, for all fonts and widths.
+   */
+  private void assertSamePrefHeight(Consumer<Label> style) {
+    style.accept(multilineLabel);
+    style.accept(label);
+    for (Font font : FONTS) {
+      multilineLabel.setFont(font);
+      label.setFont(font);
+      multilineLabel.applyCss();
+      label.applyCss();
+      for (double width : WIDTHS) {
+        String description = "font " + font + ", width " + width;
+        assertEquals(label.prefHeight(width), multilineLabel.prefHeight(width), description);
+        // cached height
+        assertEquals(label.prefHeight(width), multilineLabel.prefHeight(width), description);
+      }
+    }
+  }
+}
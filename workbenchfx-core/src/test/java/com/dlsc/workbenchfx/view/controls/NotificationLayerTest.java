@@ -0,0 +1,67 @@
+package com.dlsc.workbenchfx.view.controls;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.dlsc.workbenchfx.model.WorkbenchNotification;
+import javafx.scene.Node;
+import javafx.scene.Scene;
+import javafx.scene.control.Label;
+import javafx.stage.Stage;
+import org.junit.jupiter.api.Test;
+import org.testfx.api.FxRobot;
+import org.testfx.framework.junit5.ApplicationTest;
+
+/**
+ * Test class for {@link NotificationLayer}.
+ *
+ * @author François Martin
+ * @author Marco Sanfratello
+ */
+class NotificationLayerTest extends ApplicationTest {
+
+  private FxRobot robot;
+  private NotificationLayer notificationLayer;
+
+  @Override
+  public void start(Stage stage) {
+    robot = new FxRobot();
+    notificationLayer = new NotificationLayer();
+
+    Scene scene = new Scene(notificationLayer, 100, 100);
+    stage.setScene(scene);
+    stage.show();
+  }
+
+  @Test
+  void reuseToasts() {
+    robot.interact(() -> {
+      WorkbenchNotification first = new WorkbenchNotification("First");
+      notificationLayer.showNotification(first);
+      Node toast = notificationLayer.getChildren().get(0);
+      assertEquals("First", ((Label) toast).getText());
+
+      // text is updated when notifications are merged
+      first.setOccurrences(3);
+      assertEquals("First \u00D73", ((Label) toast).getText());
+
+      notificationLayer.hideNotification(first);
+      assertTrue(notificationLayer.getChildren().isEmpty());
+
+      // node of the hidden notification is reused
+      WorkbenchNotification second = new WorkbenchNotification("Second");
+      notificationLayer.showNotification(second);
+      assertSame(toast, notificationLayer.getChildren().get(0));
+      assertEquals("Second", ((Label) toast).getText());
+
+      // old notification doesn't affect the reused node anymore
+      first.setOccurrences(4);
+      assertEquals("Second", ((Label) toast).getText());
+
+      notificationLayer.showNotification(first);
+      assertNotSame(toast, notificationLayer.getChildren().get(1));
+    });
+  }
+}
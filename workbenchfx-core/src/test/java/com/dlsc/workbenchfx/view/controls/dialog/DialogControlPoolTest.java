@@ -0,0 +1,99 @@
+package com.dlsc.workbenchfx.view.controls.dialog;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.dlsc.workbenchfx.model.WorkbenchDialog;
+import com.dlsc.workbenchfx.model.WorkbenchDialog.Type;
+import javafx.event.Event;
+import javafx.scene.Scene;
+import javafx.scene.layout.StackPane;
+import javafx.stage.Stage;
+import org.junit.jupiter.api.Test;
+import org.testfx.api.FxRobot;
+import org.testfx.framework.junit5.ApplicationTest;
+
+/**
+ * Test class for {@link DialogControlPool}.
+ *
+ * @author François Martin
+ * @author Marco Sanfratello
+ */
+class DialogControlPoolTest extends ApplicationTest {
+
+  private FxRobot robot;
+  private DialogControlPool pool;
+
+  @Override
+  public void start(Stage stage) {
+    robot = new FxRobot();
+    pool = new DialogControlPool();
+
+    Scene scene = new Scene(new StackPane(), 100, 100);
+    stage.setScene(scene);
+    stage.show();
+  }
+
+  @Test
+  void acquireRelease() {
+    robot.interact(() -> {
+      DialogControl dialogControl = pool.acquire(Type.ERROR);
+      assertTrue(pool.owns(dialogControl));
+      WorkbenchDialog dialog = WorkbenchDialog.builder("Title", "Message", Type.ERROR)
+          .dialogControl(dialogControl)
+          .onShown(Event::consume)
+          .build();
+      assertSame(dialog, dialogControl.getDialog());
+
+      assertTrue(pool.release(dialogControl));
+      assertEquals(1, pool.size(Type.ERROR));
+      // control has been reset
+      assertNull(dialogControl.getDialog());
+      assertNull(dialogControl.getOnShown());
+      assertTrue(dialogControl.getButtons().isEmpty());
+
+      // releasing twice doesn't keep the control twice
+      assertFalse(pool.release(dialogControl));
+      assertEquals(1, pool.size(Type.ERROR));
+
+      // control is only reused for dialogs of the same type
+      assertNotSame(dialogControl, pool.acquire(Type.WARNING));
+      assertSame(dialogControl, pool.acquire(Type.ERROR));
+      assertEquals(0, pool.size(Type.ERROR));
+    });
+  }
+
+  @Test
+  void releaseForeignControl() {
+    robot.interact(() -> {
+      DialogControl dialogControl = new DialogControl();
+      assertFalse(pool.owns(dialogControl));
+      assertFalse(pool.release(dialogControl));
+      assertEquals(0, pool.size(Type.ERROR));
+    });
+  }
+
+  @Test
+  void maximumSize() {
+    robot.interact(() -> {
+      DialogControl[] dialogControls = new DialogControl[DialogControlPool.MAXIMUM_SIZE * 2];
+      for (int i = 0; i < dialogControls.length; i++) {
+        dialogControls[i] = pool.acquire(Type.INFORMATION);
+        WorkbenchDialog.builder("Title", "Message", Type.INFORMATION)
+            .dialogControl(dialogControls[i])
+            .build();
+      }
+      for (DialogControl dialogControl : dialogControls) {
+        pool.release(dialogControl);
+      }
+      assertEquals(DialogControlPool.MAXIMUM_SIZE, pool.size(Type.INFORMATION));
+
+      pool.clear();
+      assertEquals(0, pool.size(Type.INFORMATION));
+    });
+  }
+}
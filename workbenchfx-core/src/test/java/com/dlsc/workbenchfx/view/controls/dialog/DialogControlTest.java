@@ -4,6 +4,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -247,4 +248,56 @@ class DialogControlTest extends ApplicationTest {
     // return empty optional
     assertEquals(Optional.empty(), button);
   }
+
+  @Test
+  void reuseButtons() {
+    robot.interact(() -> {
+      Button button = dialogControl.getButton(BUTTON_TYPE_1).get();
+
+      // when adding a button type, the existing button is kept
+      buttonTypes.add(BUTTON_TYPE_2);
+      assertEquals(2, dialogControl.getButtons().size());
+      assertSame(button, dialogControl.getButtons().get(0));
+      Button button2 = dialogControl.getButton(BUTTON_TYPE_2).get();
+
+      // when removing a button type, its button is discarded
+      buttonTypes.remove(BUTTON_TYPE_2);
+      assertEquals(Optional.empty(), dialogControl.getButton(BUTTON_TYPE_2));
+      buttonTypes.add(BUTTON_TYPE_2);
+      assertNotSame(button2, dialogControl.getButton(BUTTON_TYPE_2).get());
+
+      // when the control is reused for a dialog, buttons of the same type are reused
+      dialogControl.setDialog(null);
+      assertTrue(dialogControl.getButtons().isEmpty());
+      assertEquals(Optional.empty(), dialogControl.getButton(BUTTON_TYPE_1));
+      dialogControl.setDialog(mockDialog);
+      assertSame(button, dialogControl.getButton(BUTTON_TYPE_1).get());
+    });
+  }
+
+  @Test
+  void reuseButtonsKeyboardBehavior() {
+    robot.interact(() -> {
+      // a single button becomes the default button
+      buttonTypes.setAll(ButtonType.CANCEL);
+      Button cancelButton = dialogControl.getButton(ButtonType.CANCEL).get();
+      assertTrue(cancelButton.isDefaultButton());
+      assertTrue(cancelButton.isCancelButton());
+
+      // when the control is reused for another dialog, the flags of reused buttons are reset
+      WorkbenchDialog otherDialog = mock(WorkbenchDialog.class);
+      when(otherDialog.getButtonTypes())
+          .thenReturn(FXCollections.observableArrayList(ButtonType.OK, ButtonType.CANCEL));
+      when(otherDialog.blockingProperty()).thenReturn(new SimpleBooleanProperty());
+      dialogControl.setDialog(null);
+      dialogControl.setDialog(otherDialog);
+
+      assertSame(cancelButton, dialogControl.getButton(ButtonType.CANCEL).get());
+      assertFalse(cancelButton.isDefaultButton());
+      assertTrue(cancelButton.isCancelButton());
+      Button okButton = dialogControl.getButton(ButtonType.OK).get();
+      assertTrue(okButton.isDefaultButton());
+      assertFalse(okButton.isCancelButton());
+    });
+  }
 }
@@ -0,0 +1,103 @@
+package com.dlsc.workbenchfx.view.controls.dialog;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.dlsc.workbenchfx.model.WorkbenchDialog;
+import com.dlsc.workbenchfx.model.WorkbenchDialog.Type;
+import java.io.PrintWriter;
+import java.util.concurrent.atomic.AtomicInteger;
+import javafx.scene.Scene;
+import javafx.scene.control.Label;
+import javafx.scene.control.ListView;
+import javafx.scene.control.TitledPane;
+import javafx.scene.input.Clipboard;
+import javafx.scene.layout.StackPane;
+import javafx.scene.layout.VBox;
+import javafx.stage.Stage;
+import org.junit.jupiter.api.Test;
+import org.testfx.api.FxRobot;
+import org.testfx.framework.junit5.ApplicationTest;
+
+/**
+ * Test class for {@link DialogErrorContent}.
+ *
+ * @author François Martin
+ * @author Marco Sanfratello
+ */
+class DialogErrorContentTest extends ApplicationTest {
+
+  private FxRobot robot;
+
+  @Override
+  public void start(Stage stage) {
+    robot = new FxRobot();
+
+    Scene scene = new Scene(new StackPane(), 100, 100);
+    stage.setScene(scene);
+    stage.show();
+  }
+
+  @Test
+  void detailsFormattedLazily() {
+    AtomicInteger printed = new AtomicInteger();
+    Exception exception = new Exception() {
+      @Override
+      public void printStackTrace(PrintWriter s) {
+        printed.incrementAndGet();
+        s.print("Stacktrace");
+      }
+    };
+    robot.interact(() -> {
+      WorkbenchDialog dialog = WorkbenchDialog.builder("Title", "Message", Type.ERROR)
+          .exception(exception)
+          .build();
+      assertTrue(dialog.hasDetails());
+      DialogErrorContent errorContent = new DialogErrorContent(new Label("Message"), dialog);
+      TitledPane titledPane = (TitledPane) errorContent.getChildren().get(1);
+      assertNull(titledPane.getContent());
+      assertEquals(0, printed.get());
+
+      // stacktrace is formatted once the details are expanded
+      titledPane.setExpanded(true);
+      assertNotNull(titledPane.getContent());
+      assertEquals(1, printed.get());
+      assertEquals("Stacktrace", dialog.getDetails());
+      assertEquals(1, printed.get());
+    });
+  }
+
+  @Test
+  void noDetails() {
+    robot.interact(() -> {
+      DialogErrorContent errorContent = new DialogErrorContent(new Label("Message"), "");
+      assertEquals(1, errorContent.getChildren().size());
+    });
+  }
+
+  @Test
+  void detailsTruncated() {
+    StringBuilder details = new StringBuilder();
+    int lines = DialogErrorContent.MAX_LINES + 10;
+    for (int i = 0; i < lines; i++) {
+      details.append("Line ").append(i).append(System.lineSeparator());
+    }
+    robot.interact(() -> {
+      DialogErrorContent errorContent =
+          new DialogErrorContent(new Label("Message"), details.toString());
+      TitledPane titledPane = (TitledPane) errorContent.getChildren().get(1);
+      titledPane.setExpanded(true);
+
+      ListView<?> listView = (ListView<?>) ((VBox) titledPane.getContent()).getChildren().get(0);
+      // shown lines plus the line which informs about the truncation
+      assertEquals(DialogErrorContent.MAX_LINES + 1, listView.getItems().size());
+      assertEquals("... 10 more lines", listView.getItems().get(DialogErrorContent.MAX_LINES));
+
+      // full details are copied
+      errorContent.copyDetails();
+      assertEquals(details.toString(), Clipboard.getSystemClipboard().getString());
+    });
+  }
+}
@@ -1,7 +1,9 @@
 package com.dlsc.workbenchfx.view.controls.module;
 
 import static com.dlsc.workbenchfx.testing.MockFactory.createMockModule;
+import static org.awaitility.Awaitility.await;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
@@ -9,9 +11,17 @@ import com.dlsc.workbenchfx.Workbench;
 import com.dlsc.workbenchfx.model.WorkbenchModule;
 import com.dlsc.workbenchfx.testing.MockPage;
 import com.dlsc.workbenchfx.testing.MockTile;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import javafx.beans.InvalidationListener;
+import javafx.beans.WeakListener;
 import javafx.beans.property.IntegerProperty;
+import javafx.beans.property.SimpleBooleanProperty;
 import javafx.beans.property.SimpleIntegerProperty;
+import javafx.beans.property.SimpleListProperty;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import javafx.scene.Node;
@@ -38,6 +48,7 @@ class PageTest extends ApplicationTest {
   private int mockTileFactoryCalls = 0;
   private Tile[] mockTiles = new Tile[SIZE];
   private ObservableList<WorkbenchModule> modulesList;
+  private List<InvalidationListener> workbenchListeners = new ArrayList<>();
 
   IntegerProperty modulesPerPage;
 
@@ -56,6 +67,7 @@ class PageTest extends ApplicationTest {
     robot = new FxRobot();
 
     mockBench = mock(Workbench.class);
+    when(mockBench.rasterizeIconsProperty()).thenReturn(new SimpleBooleanProperty());
 
     for (int i = 0; i < moduleNodes.length; i++) {
       moduleNodes[i] = new Label("Module Content");
@@ -76,10 +88,36 @@ class PageTest extends ApplicationTest {
       return mockTile;
     });
 
-    modulesList = FXCollections.observableArrayList(mockModules);
+    // keep track of the listeners the pages register on the workbench
+    modulesList = new SimpleListProperty<WorkbenchModule>(
+        FXCollections.observableArrayList(mockModules)) {
+      @Override
+      public void addListener(InvalidationListener listener) {
+        workbenchListeners.add(listener);
+        super.addListener(listener);
+      }
+
+      @Override
+      public void removeListener(InvalidationListener listener) {
+        workbenchListeners.remove(listener);
+        super.removeListener(listener);
+      }
+    };
     when(mockBench.getModules()).thenReturn(modulesList);
 
-    modulesPerPage = new SimpleIntegerProperty();
+    modulesPerPage = new SimpleIntegerProperty() {
+      @Override
+      public void addListener(InvalidationListener listener) {
+        workbenchListeners.add(listener);
+        super.addListener(listener);
+      }
+
+      @Override
+      public void removeListener(InvalidationListener listener) {
+        workbenchListeners.remove(listener);
+        super.removeListener(listener);
+      }
+    };
     when(mockBench.modulesPerPageProperty()).thenReturn(modulesPerPage);
     setModulesPerPage(9);
 
@@ -96,6 +134,15 @@ class PageTest extends ApplicationTest {
     stage.show();
   }
 
+  /**
+   * Returns the amount of listeners registered on the workbench, which still belong to a page.
+   */
+  int countWorkbenchListeners() {
+    workbenchListeners.removeIf(listener ->
+        listener instanceof WeakListener && ((WeakListener) listener).wasGarbageCollected());
+    return workbenchListeners.size();
+  }
+
   void setModulesPerPage(int amount) {
     robot.interact(() -> {
       when(mockBench.getModulesPerPage()).thenReturn(amount);
@@ -172,4 +219,71 @@ class PageTest extends ApplicationTest {
       assertEquals(mockModules[5], tiles0.get(0).getModule());
     });
   }
+
+  @Test
+  void dispose() {
+    robot.interact(() -> {
+      page0.dispose();
+      assertTrue(tiles0.isEmpty());
+
+      // tiles don't get updated anymore after the page has been disposed
+      modulesList.remove(0);
+      setModulesPerPage(SIZE / 2);
+      page0.setPageIndex(1);
+      assertTrue(tiles0.isEmpty());
+    });
+  }
+
+  @Test
+  void discardedPagesGetCollected() {
+    // simulate the pagination creating a new page every time the page gets switched
+    int amountOfPages = 5000;
+    int listeners = countWorkbenchListeners();
+    List<WeakReference<Page>> discardedPages = new ArrayList<>();
+    robot.interact(() -> {
+      for (int i = 0; i < amountOfPages; i++) {
+        Page page = new MockPage(mockBench);
+        page.setPageIndex(i % 2);
+        discardedPages.add(new WeakReference<>(page));
+      }
+    });
+
+    // the workbench must not keep the discarded pages alive
+    await().atMost(10, TimeUnit.SECONDS).until(() -> {
+      System.gc();
+      return discardedPages.stream().allMatch(reference -> reference.get() == null);
+    });
+
+    robot.interact(() -> {
+      // only the listeners of the pages which are still referenced remain on the workbench
+      assertEquals(listeners, countWorkbenchListeners());
+
+      // pages which are still referenced keep on updating their tiles
+      modulesList.remove(0);
+      assertEquals(modulesPerPage.get(), tiles0.size());
+      assertEquals(0, tiles1.size());
+    });
+  }
+
+  @Test
+  void disposedPagesRemoveListeners() {
+    // simulate the pagination disposing the previous page every time the page gets switched
+    int amountOfPages = 5000;
+    int listeners = countWorkbenchListeners();
+    robot.interact(() -> {
+      Page previousPage = new MockPage(mockBench);
+      int pageListeners = countWorkbenchListeners() - listeners;
+      for (int i = 1; i < amountOfPages; i++) {
+        Page page = new MockPage(mockBench);
+        page.setPageIndex(i % 2);
+        previousPage.dispose();
+        previousPage = page;
+
+        // the amount of listeners on the workbench stays the same, no matter how many flips
+        assertEquals(listeners + pageListeners, countWorkbenchListeners());
+      }
+      previousPage.dispose();
+      assertEquals(listeners, countWorkbenchListeners());
+    });
+  }
 }
@@ -14,6 +14,7 @@ import com.dlsc.workbenchfx.model.WorkbenchModule;
 import com.dlsc.workbenchfx.testing.MockTab;
 import java.util.concurrent.CompletableFuture;
 import javafx.beans.property.ObjectProperty;
+import javafx.beans.property.SimpleBooleanProperty;
 import javafx.beans.property.SimpleObjectProperty;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -54,6 +55,7 @@ class TabTest extends ApplicationTest {
     robot = new FxRobot();
 
     mockBench = mock(Workbench.class);
+    when(mockBench.rasterizeIconsProperty()).thenReturn(new SimpleBooleanProperty());
 
     for (int i = 0; i < moduleNodes.length; i++) {
       moduleNodes[i] = new Label("Module Content");
@@ -104,6 +106,20 @@ class TabTest extends ApplicationTest {
     verify(mockBench, atLeastOnce()).activeModuleProperty();
   }
 
+  @Test
+  void dispose() {
+    tab.dispose();
+
+    // a disposed tab doesn't listen to the active module anymore
+    activeModule.set(mockModules[0]);
+    assertFalse(tab.isActiveTab());
+
+    // until it gets a new module
+    tab.setModule(mockModules[1]);
+    activeModule.set(mockModules[1]);
+    assertTrue(tab.isActiveTab());
+  }
+
   @Test
   void testModuleListener() {
     assertEquals("Module 0", tab.getName());
@@ -2,6 +2,9 @@ package com.dlsc.workbenchfx.view.controls.module;
 
 import static com.dlsc.workbenchfx.testing.MockFactory.createMockModule;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -10,11 +13,15 @@ import com.dlsc.workbenchfx.Workbench;
 import com.dlsc.workbenchfx.model.WorkbenchModule;
 import com.dlsc.workbenchfx.testing.MockTile;
 import java.util.concurrent.CompletableFuture;
+import javafx.beans.property.BooleanProperty;
+import javafx.beans.property.SimpleBooleanProperty;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import javafx.scene.Node;
 import javafx.scene.Scene;
 import javafx.scene.control.Label;
+import javafx.scene.image.ImageView;
+import javafx.scene.paint.Color;
 import javafx.stage.Stage;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mock;
@@ -36,6 +43,7 @@ class TileTest extends ApplicationTest {
   private ObservableList<WorkbenchModule> modulesList;
 
   private MockTile tile;
+  private BooleanProperty rasterizeIcons;
 
   @Mock
   private CompletableFuture<Boolean> mockModuleCloseable;
@@ -47,6 +55,9 @@ class TileTest extends ApplicationTest {
     robot = new FxRobot();
 
     mockBench = mock(Workbench.class);
+    rasterizeIcons = new SimpleBooleanProperty();
+    when(mockBench.rasterizeIconsProperty()).thenReturn(rasterizeIcons);
+    when(mockBench.isRasterizeIcons()).thenAnswer(invocation -> rasterizeIcons.get());
 
     for (int i = 0; i < moduleNodes.length; i++) {
       moduleNodes[i] = new Label("Module Content");
@@ -103,4 +114,39 @@ class TileTest extends ApplicationTest {
     tile.open();
     verify(mockBench).openModule(mockModules[1]);
   }
+
+  @Test
+  void reuseRasterizedIcon() {
+    ImageView imageView = new ImageView();
+    when(mockBench.isRasterizeIcons()).thenReturn(true);
+    when(mockModules[1].getIcon(anyDouble(), any())).thenReturn(imageView);
+
+    robot.interact(() -> {
+      tile.setModule(mockModules[1]);
+      assertSame(imageView, tile.getIcon());
+
+      // changing the fill only updates the viewport of the existing view
+      tile.setStyle("-fx-icon-fill: red;");
+      tile.applyCss();
+      assertSame(imageView, tile.getIcon());
+      verify(mockModules[1]).getIcon(anyDouble(), any());
+      verify(mockModules[1]).updateIcon(imageView, tile.getIconSize(), Color.RED);
+    });
+  }
+
+  @Test
+  void rasterizeIconsChanged() {
+    ImageView imageView = new ImageView();
+    when(mockModules[0].getIcon(anyDouble(), any())).thenReturn(imageView);
+
+    robot.interact(() -> {
+      assertEquals("Module Icon 0", ((Label) tile.getIcon()).getText());
+
+      // existing tiles switch to the rasterized icon and back
+      rasterizeIcons.set(true);
+      assertSame(imageView, tile.getIcon());
+      rasterizeIcons.set(false);
+      assertEquals("Module Icon 0", ((Label) tile.getIcon()).getText());
+    });
+  }
 }
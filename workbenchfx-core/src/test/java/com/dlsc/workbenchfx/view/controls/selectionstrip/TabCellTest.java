@@ -3,7 +3,6 @@ package com.dlsc.workbenchfx.view.controls.selectionstrip;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNull;
-import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
@@ -14,8 +13,8 @@ import static org.mockito.Mockito.when;
 import com.dlsc.workbenchfx.Workbench;
 import com.dlsc.workbenchfx.model.WorkbenchModule;
 import com.dlsc.workbenchfx.view.controls.module.Tab;
-import javafx.beans.WeakInvalidationListener;
 import javafx.beans.property.ObjectProperty;
+import javafx.beans.value.ChangeListener;
 import javafx.collections.ObservableList;
 import javafx.scene.Scene;
 import javafx.stage.Stage;
@@ -73,7 +72,6 @@ public class TabCellTest extends ApplicationTest {
 
     assertEquals("", tabCell.getText());
     assertEquals(mockTab, tabCell.getGraphic());
-    assertTrue(tabCell.getStyleClass().contains(firstChild));
 
     verify(mockStrip, times(2)).getSelectedItem();
     verify(mockStrip).selectedItemProperty();
@@ -81,9 +79,26 @@ public class TabCellTest extends ApplicationTest {
     verify(mockBench).getTabFactory();
     verify(mockFactory).call(mockBench);
     verify(mockTab).setModule(mockModule);
-    verify(mockProperty).addListener((WeakInvalidationListener) any());
-    verify(mockStrip).getItems();
-    verify(mockList).get(0);
+    verify(mockProperty).addListener((ChangeListener) any());
+  }
+
+  @Test
+  void testChangingItemReusesTab() {
+    WorkbenchModule mockModule2 = mock(WorkbenchModule.class);
+    when(mockModule2.getWorkbench()).thenReturn(mockBench);
+
+    robot.interact(() -> {
+      tabCell.setSelectionStrip(mockStrip);
+      tabCell.setItem(mockModule);
+      tabCell.setItem(mockModule2);
+    });
+
+    // the tab is only created once and gets the new module
+    assertEquals(mockTab, tabCell.getGraphic());
+    assertEquals(mockTab, tabCell.getTab());
+    verify(mockFactory).call(mockBench);
+    verify(mockTab).setModule(mockModule);
+    verify(mockTab).setModule(mockModule2);
   }
 
   @Test
@@ -99,7 +114,7 @@ public class TabCellTest extends ApplicationTest {
 
     verify(mockStrip).getSelectedItem();
     verify(mockStrip).selectedItemProperty();
-    verify(mockProperty).addListener((WeakInvalidationListener) any());
+    verify(mockProperty).addListener((ChangeListener) any());
     verifyNoMoreInteractions(mockModule, mockBench, mockFactory, mockTab, mockStrip, mockList);
   }
 
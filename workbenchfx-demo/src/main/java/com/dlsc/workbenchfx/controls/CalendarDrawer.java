@@ -3,6 +3,7 @@ package com.dlsc.workbenchfx.controls;
 import com.dlsc.workbenchfx.Workbench;
 import de.jensd.fx.glyphs.fontawesome.FontAwesomeIcon;
 import de.jensd.fx.glyphs.fontawesome.FontAwesomeIconView;
+import java.util.function.Supplier;
 import javafx.geometry.Insets;
 import javafx.geometry.Pos;
 import javafx.geometry.Side;
@@ -10,6 +11,7 @@ import javafx.scene.control.Button;
 import javafx.scene.control.Label;
 import javafx.scene.layout.GridPane;
 import javafx.scene.layout.HBox;
+import javafx.scene.layout.Region;
 import javafx.scene.layout.VBox;
 import javafx.scene.paint.Color;
 import javafx.scene.shape.Rectangle;
@@ -21,6 +23,8 @@ public class CalendarDrawer extends VBox {
 
   private static final int RECT_SIZE = 20;
   private final Workbench workbench;
+  // the nested drawers only get built when they are shown for the first time
+  private final Supplier<Region> calendarDrawer;
   HBox userBox = new HBox();
   FontAwesomeIconView userIcon;
   Label userLbl = new Label("workbenchfx@dlsc.com");
@@ -44,6 +48,7 @@ public class CalendarDrawer extends VBox {
 
   public CalendarDrawer(Workbench workbench) {
     this.workbench = workbench;
+    calendarDrawer = () -> new CalendarDrawer(workbench);
     layoutParts();
     setupEventHandlers();
   }
@@ -99,14 +104,10 @@ public class CalendarDrawer extends VBox {
   }
 
   private void setupEventHandlers() {
-    calendarLeftBtn.setOnAction(
-        event -> workbench.showDrawer(new CalendarDrawer(workbench), Side.LEFT));
-    calendarRightBtn.setOnAction(
-        event -> workbench.showDrawer(new CalendarDrawer(workbench), Side.RIGHT));
-    calendarTopBtn.setOnAction(
-        event -> workbench.showDrawer(new CalendarDrawer(workbench), Side.TOP));
-    calendarBottomBtn.setOnAction(
-        event -> workbench.showDrawer(new CalendarDrawer(workbench), Side.BOTTOM));
+    calendarLeftBtn.setOnAction(event -> workbench.showDrawer(calendarDrawer, Side.LEFT));
+    calendarRightBtn.setOnAction(event -> workbench.showDrawer(calendarDrawer, Side.RIGHT));
+    calendarTopBtn.setOnAction(event -> workbench.showDrawer(calendarDrawer, Side.TOP));
+    calendarBottomBtn.setOnAction(event -> workbench.showDrawer(calendarDrawer, Side.BOTTOM));
     hideBtn.setOnAction(event -> workbench.hideDrawer());
   }
 
@@ -4,12 +4,14 @@ import com.dlsc.workbenchfx.controls.CalendarDrawer;
 import com.dlsc.workbenchfx.controls.MapDrawer;
 import com.dlsc.workbenchfx.model.WorkbenchModule;
 import de.jensd.fx.glyphs.materialdesignicons.MaterialDesignIcon;
+import java.util.function.Supplier;
 import javafx.geometry.Pos;
 import javafx.geometry.Side;
 import javafx.scene.Node;
 import javafx.scene.control.Button;
 import javafx.scene.control.Label;
 import javafx.scene.layout.GridPane;
+import javafx.scene.layout.Region;
 import javafx.scene.layout.VBox;
 
 /**
@@ -45,6 +47,10 @@ public class DrawerTestModule extends WorkbenchModule {
 
   private final VBox contentBox = new VBox(mapLbl, mapPane, calendarLbl, calendarPane);
 
+  // the drawers only get built when they are shown for the first time
+  private final Supplier<Region> mapDrawer = MapDrawer::new;
+  private final Supplier<Region> calendarDrawer = () -> new CalendarDrawer(getWorkbench());
+
   public DrawerTestModule() {
     super("Drawer Test", MaterialDesignIcon.HELP);
     layoutParts();
@@ -81,39 +87,30 @@ public class DrawerTestModule extends WorkbenchModule {
 
   private void setupEventHandlers() {
     // Map
-    MapDrawer drawer = new MapDrawer();
-    leftBtn.setOnAction(event -> {
-      getWorkbench().showDrawer(drawer, Side.LEFT);
-    });
-    rightBtn.setOnAction(event -> getWorkbench().showDrawer(new MapDrawer(), Side.RIGHT));
-    topBtn.setOnAction(event -> getWorkbench().showDrawer(new MapDrawer(), Side.TOP));
-    bottomBtn.setOnAction(event -> getWorkbench().showDrawer(new MapDrawer(), Side.BOTTOM));
-
-    leftPercentBtn.setOnAction(event -> getWorkbench().showDrawer(new MapDrawer(), Side.LEFT, 33));
-    rightPercentBtn.setOnAction(
-        event -> getWorkbench().showDrawer(new MapDrawer(), Side.RIGHT, 33));
-    topPercentBtn.setOnAction(event -> getWorkbench().showDrawer(new MapDrawer(), Side.TOP, 33));
-    bottomPercentBtn.setOnAction(
-        event -> getWorkbench().showDrawer(new MapDrawer(), Side.BOTTOM, 33));
+    leftBtn.setOnAction(event -> getWorkbench().showDrawer(mapDrawer, Side.LEFT));
+    rightBtn.setOnAction(event -> getWorkbench().showDrawer(mapDrawer, Side.RIGHT));
+    topBtn.setOnAction(event -> getWorkbench().showDrawer(mapDrawer, Side.TOP));
+    bottomBtn.setOnAction(event -> getWorkbench().showDrawer(mapDrawer, Side.BOTTOM));
+
+    leftPercentBtn.setOnAction(event -> getWorkbench().showDrawer(mapDrawer, Side.LEFT, 33));
+    rightPercentBtn.setOnAction(event -> getWorkbench().showDrawer(mapDrawer, Side.RIGHT, 33));
+    topPercentBtn.setOnAction(event -> getWorkbench().showDrawer(mapDrawer, Side.TOP, 33));
+    bottomPercentBtn.setOnAction(event -> getWorkbench().showDrawer(mapDrawer, Side.BOTTOM, 33));
 
     // Calendar
-    calendarLeftBtn.setOnAction(
-        event -> getWorkbench().showDrawer(new CalendarDrawer(getWorkbench()), Side.LEFT));
-    calendarRightBtn.setOnAction(
-        event -> getWorkbench().showDrawer(new CalendarDrawer(getWorkbench()), Side.RIGHT));
-    calendarTopBtn.setOnAction(
-        event -> getWorkbench().showDrawer(new CalendarDrawer(getWorkbench()), Side.TOP));
-    calendarBottomBtn.setOnAction(
-        event -> getWorkbench().showDrawer(new CalendarDrawer(getWorkbench()), Side.BOTTOM));
+    calendarLeftBtn.setOnAction(event -> getWorkbench().showDrawer(calendarDrawer, Side.LEFT));
+    calendarRightBtn.setOnAction(event -> getWorkbench().showDrawer(calendarDrawer, Side.RIGHT));
+    calendarTopBtn.setOnAction(event -> getWorkbench().showDrawer(calendarDrawer, Side.TOP));
+    calendarBottomBtn.setOnAction(event -> getWorkbench().showDrawer(calendarDrawer, Side.BOTTOM));
 
     calendarLeftPercentBtn.setOnAction(
-        event -> getWorkbench().showDrawer(new CalendarDrawer(getWorkbench()), Side.LEFT, 33));
+        event -> getWorkbench().showDrawer(calendarDrawer, Side.LEFT, 33));
     calendarRightPercentBtn.setOnAction(
-        event -> getWorkbench().showDrawer(new CalendarDrawer(getWorkbench()), Side.RIGHT, 33));
+        event -> getWorkbench().showDrawer(calendarDrawer, Side.RIGHT, 33));
     calendarTopPercentBtn.setOnAction(
-        event -> getWorkbench().showDrawer(new CalendarDrawer(getWorkbench()), Side.TOP, 33));
+        event -> getWorkbench().showDrawer(calendarDrawer, Side.TOP, 33));
     calendarBottomPercentBtn.setOnAction(
-        event -> getWorkbench().showDrawer(new CalendarDrawer(getWorkbench()), Side.BOTTOM, 33));
+        event -> getWorkbench().showDrawer(calendarDrawer, Side.BOTTOM, 33));
   }
 
   @Override